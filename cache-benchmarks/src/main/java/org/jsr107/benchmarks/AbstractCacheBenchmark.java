@@ -0,0 +1,160 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The base class for benchmarks of a {@link Cache} provided by the
+ * {@link javax.cache.spi.CachingProvider} discovered by {@link Caching}.
+ * <p/>
+ * The {@link Cache} is configured by {@link #configure(MutableConfiguration)}
+ * and populated with every key in the key space before measurement starts.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractCacheBenchmark {
+
+  /**
+   * The number of keys drawn from the {@link KeyDistribution}, which must be a
+   * power of two.
+   */
+  private static final int SAMPLE_SIZE = 1 << 16;
+
+  /**
+   * The number of distinct keys.
+   */
+  @Param({"1000", "100000"})
+  public int keySpace;
+
+  /**
+   * The {@link KeyDistribution} of the keys.
+   */
+  @Param({"UNIFORM", "ZIPFIAN"})
+  public KeyDistribution distribution;
+
+  /**
+   * The {@link CacheManager} of the {@link Cache}.
+   */
+  protected CacheManager cacheManager;
+
+  /**
+   * The {@link Cache} being benchmarked.
+   */
+  protected Cache<Integer, String> cache;
+
+  /**
+   * The values, indexed by key.
+   */
+  protected String[] values;
+
+  /**
+   * The keys drawn from the {@link KeyDistribution}, shared by all threads.
+   */
+  private Integer[] samples;
+
+  /**
+   * Configures, creates and populates the {@link Cache}.
+   */
+  @Setup(Level.Trial)
+  public void createCache() {
+    MutableConfiguration<Integer, String> configuration = new MutableConfiguration<Integer, String>();
+    configuration.setTypes(Integer.class, String.class);
+    configure(configuration);
+
+    cacheManager = Caching.getCachingProvider().getCacheManager();
+    cache = cacheManager.configureCache(getClass().getSimpleName(), configuration);
+
+    values = new String[keySpace];
+    Map<Integer, String> entries = new HashMap<Integer, String>();
+    for (int key = 0; key < keySpace; key++) {
+      values[key] = "value-" + key;
+      entries.put(key, values[key]);
+    }
+    cache.putAll(entries);
+
+    int[] keys = distribution.sample(keySpace, SAMPLE_SIZE, new Random(42));
+    samples = new Integer[SAMPLE_SIZE];
+    for (int i = 0; i < SAMPLE_SIZE; i++) {
+      samples[i] = keys[i];
+    }
+  }
+
+  /**
+   * Destroys the {@link Cache}.
+   */
+  @TearDown(Level.Trial)
+  public void destroyCache() {
+    cacheManager.destroyCache(cache.getName());
+  }
+
+  /**
+   * Configures the {@link Cache} to benchmark.  By default the
+   * {@link MutableConfiguration} is used unchanged.
+   *
+   * @param configuration the {@link MutableConfiguration} to adjust
+   */
+  protected void configure(MutableConfiguration<Integer, String> configuration) {
+  }
+
+  /**
+   * Obtains the key with the specified position in the sample of keys drawn
+   * from the {@link KeyDistribution}.
+   *
+   * @param position the position of the key, which wraps around the sample
+   * @return the key
+   */
+  protected Integer key(int position) {
+    return samples[position & (SAMPLE_SIZE - 1)];
+  }
+
+  /**
+   * The position of a benchmark thread in the sample of keys.  Each thread
+   * starts at a random position so that threads don't access keys in
+   * lock-step.
+   */
+  @State(Scope.Thread)
+  public static class Position {
+
+    /**
+     * The current position.
+     */
+    private int position;
+
+    /**
+     * Chooses the starting position of the thread.
+     */
+    @Setup(Level.Trial)
+    public void start() {
+      position = new Random().nextInt(SAMPLE_SIZE);
+    }
+
+    /**
+     * Obtains the current position and advances to the next.
+     *
+     * @return the position
+     */
+    public int next() {
+      return position++;
+    }
+  }
+}
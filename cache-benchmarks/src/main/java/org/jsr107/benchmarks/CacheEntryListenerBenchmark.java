@@ -0,0 +1,169 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListenerException;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks the cost of dispatching events to
+ * {@link javax.cache.event.CacheEntryListener}s, by mutating a
+ * {@link javax.cache.Cache} with <code>listeners</code> listeners registered.
+ *
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheEntryListenerBenchmark extends AbstractCacheBenchmark {
+
+  /**
+   * The number of listeners to register.
+   */
+  @Param({"1", "4"})
+  public int listeners;
+
+  /**
+   * Whether the listeners are synchronous.
+   */
+  @Param({"true", "false"})
+  public boolean synchronous;
+
+  /**
+   * Whether the listeners require the old value.
+   */
+  @Param({"false", "true"})
+  public boolean oldValueRequired;
+
+  @Override
+  protected void configure(MutableConfiguration<Integer, String> configuration) {
+    for (int i = 0; i < listeners; i++) {
+      configuration.addCacheEntryListenerConfiguration(
+          new MutableCacheEntryListenerConfiguration<Integer, String>(
+              FactoryBuilder.factoryOf(new CountingListener(i)), null, oldValueRequired, synchronous));
+    }
+  }
+
+  /**
+   * Benchmarks {@link javax.cache.Cache#put(Object, Object)}, which dispatches
+   * an updated event.
+   *
+   * @param position the position of the thread
+   */
+  @Benchmark
+  public void put(Position position) {
+    Integer key = key(position.next());
+    cache.put(key, values[key]);
+  }
+
+  /**
+   * Benchmarks {@link javax.cache.Cache#remove(Object)} followed by
+   * {@link javax.cache.Cache#put(Object, Object)}, which dispatch a removed
+   * and a created event.
+   *
+   * @param position the position of the thread
+   */
+  @Benchmark
+  public void removeAndPut(Position position) {
+    Integer key = key(position.next());
+    cache.remove(key);
+    cache.put(key, values[key]);
+  }
+
+  /**
+   * A {@link javax.cache.event.CacheEntryListener} that counts the events it
+   * receives.
+   */
+  public static class CountingListener implements CacheEntryCreatedListener<Integer, String>,
+      CacheEntryUpdatedListener<Integer, String>, CacheEntryRemovedListener<Integer, String>, Serializable {
+
+    /**
+     * The serialVersionUID required for {@link Serializable}.
+     */
+    public static final long serialVersionUID = 201310160002L;
+
+    /**
+     * The identity of the listener, so that listener configurations are
+     * distinct.
+     */
+    private final int id;
+
+    /**
+     * The number of events received.
+     */
+    private final AtomicLong events = new AtomicLong();
+
+    /**
+     * Constructs a {@link CountingListener}.
+     *
+     * @param id the identity of the listener
+     */
+    public CountingListener(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public void onCreated(Iterable<CacheEntryEvent<? extends Integer, ? extends String>> events)
+        throws CacheEntryListenerException {
+      count(events);
+    }
+
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends Integer, ? extends String>> events)
+        throws CacheEntryListenerException {
+      count(events);
+    }
+
+    @Override
+    public void onRemoved(Iterable<CacheEntryEvent<? extends Integer, ? extends String>> events)
+        throws CacheEntryListenerException {
+      count(events);
+    }
+
+    /**
+     * Counts the events.
+     *
+     * @param received the events
+     */
+    private void count(Iterable<CacheEntryEvent<? extends Integer, ? extends String>> received) {
+      for (CacheEntryEvent<? extends Integer, ? extends String> event : received) {
+        events.incrementAndGet();
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof CountingListener && ((CountingListener) object).id == id;
+    }
+  }
+}
@@ -0,0 +1,206 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.cache.Cache;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the core {@link Cache} operations.
+ * <p/>
+ * The bulk operations use batches of <code>batchSize</code> keys.
+ *
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheOperationsBenchmark extends AbstractCacheBenchmark {
+
+  /**
+   * The number of keys used by bulk operations.
+   */
+  @Param({"100"})
+  public int batchSize;
+
+  /**
+   * An {@link Cache.EntryProcessor} that reads the value of an entry.
+   */
+  private static final Cache.EntryProcessor<Integer, String, String> READ = new ReadEntryProcessor();
+
+  /**
+   * An {@link Cache.EntryProcessor} that replaces the value of an entry.
+   */
+  private static final Cache.EntryProcessor<Integer, String, String> WRITE = new WriteEntryProcessor();
+
+  /**
+   * Benchmarks {@link Cache#get(Object)}.
+   *
+   * @param position the position of the thread
+   * @return the value
+   */
+  @Benchmark
+  public String get(Position position) {
+    return cache.get(key(position.next()));
+  }
+
+  /**
+   * Benchmarks {@link Cache#put(Object, Object)}.
+   *
+   * @param position the position of the thread
+   */
+  @Benchmark
+  public void put(Position position) {
+    Integer key = key(position.next());
+    cache.put(key, values[key]);
+  }
+
+  /**
+   * Benchmarks {@link Cache#getAll(Set)}.
+   *
+   * @param position the position of the thread
+   * @return the values
+   */
+  @Benchmark
+  public Map<Integer, String> getAll(Position position) {
+    return cache.getAll(keys(position));
+  }
+
+  /**
+   * Benchmarks {@link Cache#putAll(Map)}.
+   *
+   * @param position the position of the thread
+   */
+  @Benchmark
+  public void putAll(Position position) {
+    Map<Integer, String> entries = new HashMap<Integer, String>();
+    for (int i = 0; i < batchSize; i++) {
+      Integer key = key(position.next());
+      entries.put(key, values[key]);
+    }
+    cache.putAll(entries);
+  }
+
+  /**
+   * Benchmarks {@link Cache#invoke(Object, Cache.EntryProcessor, Object...)}
+   * with an {@link Cache.EntryProcessor} that reads the entry.
+   *
+   * @param position the position of the thread
+   * @return the value
+   */
+  @Benchmark
+  public String invokeRead(Position position) {
+    return cache.invoke(key(position.next()), READ);
+  }
+
+  /**
+   * Benchmarks {@link Cache#invoke(Object, Cache.EntryProcessor, Object...)}
+   * with an {@link Cache.EntryProcessor} that updates the entry.
+   *
+   * @param position the position of the thread
+   * @return the previous value
+   */
+  @Benchmark
+  public String invokeWrite(Position position) {
+    Integer key = key(position.next());
+    return cache.invoke(key, WRITE, values[key]);
+  }
+
+  /**
+   * Benchmarks {@link Cache#invokeAll(Set, Cache.EntryProcessor, Object...)}
+   * with an {@link Cache.EntryProcessor} that reads the entries.
+   *
+   * @param position the position of the thread
+   * @return the values
+   */
+  @Benchmark
+  public Map<Integer, String> invokeAll(Position position) {
+    return cache.invokeAll(keys(position), READ);
+  }
+
+  /**
+   * Benchmarks iterating over every entry using {@link Cache#iterator()}.
+   *
+   * @param blackhole the {@link Blackhole} that consumes the entries
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void iterate(Blackhole blackhole) {
+    for (Cache.Entry<Integer, String> entry : cache) {
+      blackhole.consume(entry);
+    }
+  }
+
+  /**
+   * Obtains the next <code>batchSize</code> keys for a thread.
+   *
+   * @param position the position of the thread
+   * @return the keys, which may be fewer than <code>batchSize</code> when keys
+   *         are drawn more than once
+   */
+  private Set<Integer> keys(Position position) {
+    Set<Integer> keys = new HashSet<Integer>();
+    for (int i = 0; i < batchSize; i++) {
+      keys.add(key(position.next()));
+    }
+    return keys;
+  }
+
+  /**
+   * An {@link Cache.EntryProcessor} that returns the value of an entry.
+   */
+  public static class ReadEntryProcessor implements Cache.EntryProcessor<Integer, String, String>, Serializable {
+
+    /**
+     * The serialVersionUID required for {@link Serializable}.
+     */
+    public static final long serialVersionUID = 201310160000L;
+
+    @Override
+    public String process(Cache.MutableEntry<Integer, String> entry, Object... arguments) {
+      return entry.getValue();
+    }
+  }
+
+  /**
+   * An {@link Cache.EntryProcessor} that sets the value of an entry to the
+   * first argument, returning the previous value.
+   */
+  public static class WriteEntryProcessor implements Cache.EntryProcessor<Integer, String, String>, Serializable {
+
+    /**
+     * The serialVersionUID required for {@link Serializable}.
+     */
+    public static final long serialVersionUID = 201310160001L;
+
+    @Override
+    public String process(Cache.MutableEntry<Integer, String> entry, Object... arguments) {
+      String previous = entry.getValue();
+      entry.setValue((String) arguments[0]);
+      return previous;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks looking up {@link CachingProvider}s via {@link Caching}, as
+ * applications commonly do for each request.  Run with multiple threads
+ * (<code>-t</code>) to measure contention on the registry.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachingProviderRegistryBenchmark {
+
+  /**
+   * The fully qualified class name of the {@link CachingProvider}.
+   */
+  private String className;
+
+  /**
+   * Loads the {@link CachingProvider} before measurement starts.
+   */
+  @Setup(Level.Trial)
+  public void loadCachingProvider() {
+    className = Caching.getCachingProvider().getClass().getName();
+  }
+
+  /**
+   * Benchmarks {@link Caching#getCachingProvider()}.
+   *
+   * @return the {@link CachingProvider}
+   */
+  @Benchmark
+  public CachingProvider getCachingProvider() {
+    return Caching.getCachingProvider();
+  }
+
+  /**
+   * Benchmarks {@link Caching#getCachingProvider(String)}.
+   *
+   * @return the {@link CachingProvider}
+   */
+  @Benchmark
+  public CachingProvider getCachingProviderByClassName() {
+    return Caching.getCachingProvider(className);
+  }
+}
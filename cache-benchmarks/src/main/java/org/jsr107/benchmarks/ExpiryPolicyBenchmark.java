@@ -0,0 +1,102 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import javax.cache.expiry.TouchedExpiryPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link javax.cache.Cache} operations with each of the standard
+ * {@link ExpiryPolicy}s, where entries expire after <code>expiryMillis</code>
+ * milliseconds.
+ * <p/>
+ * With a short expiry duration, expired entries are replaced by subsequent
+ * puts, so this also measures the cost of expiring entries.
+ *
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpiryPolicyBenchmark extends AbstractCacheBenchmark {
+
+  /**
+   * The {@link ExpiryPolicy} to use.
+   */
+  @Param({"ETERNAL", "CREATED", "ACCESSED", "MODIFIED", "TOUCHED"})
+  public String expiryPolicy;
+
+  /**
+   * The expiry duration in milliseconds.
+   */
+  @Param({"10", "60000"})
+  public long expiryMillis;
+
+  @Override
+  protected void configure(MutableConfiguration<Integer, String> configuration) {
+    Duration duration = new Duration(TimeUnit.MILLISECONDS, expiryMillis);
+    Factory<ExpiryPolicy<? super Integer, ? super String>> factory;
+
+    if (expiryPolicy.equals("ETERNAL")) {
+      factory = EternalExpiryPolicy.factoryOf();
+    } else if (expiryPolicy.equals("CREATED")) {
+      factory = CreatedExpiryPolicy.factoryOf(duration);
+    } else if (expiryPolicy.equals("ACCESSED")) {
+      factory = AccessedExpiryPolicy.factoryOf(duration);
+    } else if (expiryPolicy.equals("MODIFIED")) {
+      factory = ModifiedExpiryPolicy.factoryOf(duration);
+    } else if (expiryPolicy.equals("TOUCHED")) {
+      factory = TouchedExpiryPolicy.factoryOf(duration);
+    } else {
+      throw new IllegalArgumentException("Unknown ExpiryPolicy [" + expiryPolicy + "]");
+    }
+
+    configuration.setExpiryPolicyFactory(factory);
+  }
+
+  /**
+   * Benchmarks {@link javax.cache.Cache#get(Object)}.
+   *
+   * @param position the position of the thread
+   * @return the value, or null if it expired
+   */
+  @Benchmark
+  public String get(Position position) {
+    return cache.get(key(position.next()));
+  }
+
+  /**
+   * Benchmarks {@link javax.cache.Cache#put(Object, Object)}.
+   *
+   * @param position the position of the thread
+   */
+  @Benchmark
+  public void put(Position position) {
+    Integer key = key(position.next());
+    cache.put(key, values[key]);
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package org.jsr107.benchmarks;
+
+import java.util.Random;
+
+/**
+ * The distributions from which benchmark keys are drawn.
+ *
+ * @since 1.0
+ */
+public enum KeyDistribution {
+
+  /**
+   * Each key is equally likely.
+   */
+  UNIFORM {
+    @Override
+    int[] sample(int keySpace, int count, Random random) {
+      int[] keys = new int[count];
+      for (int i = 0; i < count; i++) {
+        keys[i] = random.nextInt(keySpace);
+      }
+      return keys;
+    }
+  },
+
+  /**
+   * Keys follow a Zipfian distribution (with an exponent of 0.99), such that a
+   * small number of keys are very hot, as is typical of cache workloads.
+   */
+  ZIPFIAN {
+    @Override
+    int[] sample(int keySpace, int count, Random random) {
+      // the algorithm from "Quickly Generating Billion-Record Synthetic
+      // Databases", Gray et al, SIGMOD 1994
+      double zetan = zeta(keySpace);
+      double zeta2 = zeta(2);
+      double alpha = 1.0 / (1.0 - THETA);
+      double eta = (1 - Math.pow(2.0 / keySpace, 1 - THETA)) / (1 - zeta2 / zetan);
+
+      int[] keys = new int[count];
+      for (int i = 0; i < count; i++) {
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        int key;
+        if (uz < 1.0) {
+          key = 0;
+        } else if (uz < 1.0 + Math.pow(0.5, THETA)) {
+          key = 1;
+        } else {
+          key = (int) (keySpace * Math.pow(eta * u - eta + 1, alpha));
+        }
+        keys[i] = Math.min(key, keySpace - 1);
+      }
+      return keys;
+    }
+
+    /**
+     * Calculates the zeta constant for the specified number of items.
+     *
+     * @param n the number of items
+     * @return the zeta constant
+     */
+    private double zeta(int n) {
+      double sum = 0;
+      for (int i = 1; i <= n; i++) {
+        sum += 1 / Math.pow(i, THETA);
+      }
+      return sum;
+    }
+  };
+
+  /**
+   * The skew of the {@link #ZIPFIAN} distribution.
+   */
+  private static final double THETA = 0.99;
+
+  /**
+   * Draws a sequence of keys from the distribution.
+   *
+   * @param keySpace the number of distinct keys
+   * @param count    the number of keys to draw
+   * @param random   the source of randomness
+   * @return the keys, each in the range [0, keySpace)
+   */
+  abstract int[] sample(int keySpace, int count, Random random);
+}
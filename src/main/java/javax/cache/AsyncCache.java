@@ -0,0 +1,234 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An asynchronous view of a {@link Cache}, where each operation returns a
+ * {@link CacheFuture} instead of blocking the calling thread.
+ * <p/>
+ * An {@link AsyncCache} is obtained from a {@link Cache} using
+ * <code>cache.unwrap(AsyncCache.class)</code>.  Implementations that don't
+ * provide an asynchronous view throw an {@link IllegalArgumentException}.
+ * <p/>
+ * The semantics of each operation, including those of read-through,
+ * write-through, expiry, statistics and listener notification, are those of
+ * the corresponding {@link Cache} operation.  Exceptions that the
+ * corresponding {@link Cache} operation would throw are instead delivered
+ * through the returned {@link CacheFuture}, with the exception of a
+ * {@link NullPointerException} for null arguments and an
+ * {@link IllegalStateException} should the {@link Cache} be closed, which are
+ * thrown by the calling thread.
+ * <p/>
+ * Implementations should avoid blocking the calling thread, for example
+ * while a {@link javax.cache.integration.CacheLoader},
+ * {@link javax.cache.integration.CacheWriter} or remote server is consulted.
+ * <p/>
+ * The ordering of operations issued by a single thread against the same key
+ * is preserved.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ * @see Cache#unwrap(Class)
+ * @since 1.0
+ */
+public interface AsyncCache<K, V> {
+
+  /**
+   * Obtains the {@link Cache} of which this is an asynchronous view.
+   *
+   * @return the {@link Cache}
+   */
+  Cache<K, V> getCache();
+
+  /**
+   * Asynchronously gets the value associated with the specified key.
+   *
+   * @param key the key
+   * @return a {@link CacheFuture} providing the value associated with the key,
+   *         or null if it does not exist
+   * @see Cache#get(Object)
+   */
+  CacheFuture<V> get(K key);
+
+  /**
+   * Asynchronously gets the values associated with the specified keys.
+   *
+   * @param keys the keys
+   * @return a {@link CacheFuture} providing a {@link Map} of the entries that
+   *         were found for the given keys
+   * @see Cache#getAll(Set)
+   */
+  CacheFuture<Map<K, V>> getAll(Set<? extends K> keys);
+
+  /**
+   * Asynchronously determines if the {@link Cache} contains an entry for
+   * the specified key.
+   *
+   * @param key the key
+   * @return a {@link CacheFuture} providing true if the {@link Cache} contains
+   *         an entry for the key
+   * @see Cache#containsKey(Object)
+   */
+  CacheFuture<Boolean> containsKey(K key);
+
+  /**
+   * Asynchronously associates the specified value with the specified key.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a {@link CacheFuture} that completes once the operation has
+   *         completed
+   * @see Cache#put(Object, Object)
+   */
+  CacheFuture<Void> put(K key, V value);
+
+  /**
+   * Asynchronously associates the specified value with the specified key,
+   * returning the previously associated value.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a {@link CacheFuture} providing the value previously associated
+   *         with the key, or null if none was
+   * @see Cache#getAndPut(Object, Object)
+   */
+  CacheFuture<V> getAndPut(K key, V value);
+
+  /**
+   * Asynchronously copies all of the entries from the specified map to the
+   * {@link Cache}.
+   *
+   * @param map the mappings to store
+   * @return a {@link CacheFuture} that completes once the operation has
+   *         completed
+   * @see Cache#putAll(Map)
+   */
+  CacheFuture<Void> putAll(Map<? extends K, ? extends V> map);
+
+  /**
+   * Asynchronously associates the specified value with the specified key if
+   * it is not already associated with a value.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a {@link CacheFuture} providing true if a value was set
+   * @see Cache#putIfAbsent(Object, Object)
+   */
+  CacheFuture<Boolean> putIfAbsent(K key, V value);
+
+  /**
+   * Asynchronously removes the entry for a key.
+   *
+   * @param key the key
+   * @return a {@link CacheFuture} providing true if an entry was removed
+   * @see Cache#remove(Object)
+   */
+  CacheFuture<Boolean> remove(K key);
+
+  /**
+   * Asynchronously removes the entry for a key only if currently mapped to the
+   * given value.
+   *
+   * @param key      the key
+   * @param oldValue the value expected to be associated with the key
+   * @return a {@link CacheFuture} providing true if the entry was removed
+   * @see Cache#remove(Object, Object)
+   */
+  CacheFuture<Boolean> remove(K key, V oldValue);
+
+  /**
+   * Asynchronously removes the entry for a key, returning the value that was
+   * associated with it.
+   *
+   * @param key the key
+   * @return a {@link CacheFuture} providing the value that was removed, or null
+   *         if none was
+   * @see Cache#getAndRemove(Object)
+   */
+  CacheFuture<V> getAndRemove(K key);
+
+  /**
+   * Asynchronously replaces the value for a key only if currently mapped to
+   * the given value.
+   *
+   * @param key      the key
+   * @param oldValue the value expected to be associated with the key
+   * @param newValue the value to associate with the key
+   * @return a {@link CacheFuture} providing true if the value was replaced
+   * @see Cache#replace(Object, Object, Object)
+   */
+  CacheFuture<Boolean> replace(K key, V oldValue, V newValue);
+
+  /**
+   * Asynchronously replaces the value for a key only if currently mapped to a
+   * value.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a {@link CacheFuture} providing true if the value was replaced
+   * @see Cache#replace(Object, Object)
+   */
+  CacheFuture<Boolean> replace(K key, V value);
+
+  /**
+   * Asynchronously replaces the value for a key only if currently mapped to a
+   * value, returning the value that was replaced.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a {@link CacheFuture} providing the value that was replaced, or
+   *         null if none was
+   * @see Cache#getAndReplace(Object, Object)
+   */
+  CacheFuture<V> getAndReplace(K key, V value);
+
+  /**
+   * Asynchronously removes the entries for the specified keys.
+   *
+   * @param keys the keys
+   * @return a {@link CacheFuture} that completes once the operation has
+   *         completed
+   * @see Cache#removeAll(Set)
+   */
+  CacheFuture<Void> removeAll(Set<? extends K> keys);
+
+  /**
+   * Asynchronously invokes an {@link Cache.EntryProcessor} against the
+   * {@link Cache.Entry} specified by the provided key.
+   *
+   * @param key            the key to the entry
+   * @param entryProcessor the {@link Cache.EntryProcessor} to invoke
+   * @param arguments      additional arguments to pass to the
+   *                       {@link Cache.EntryProcessor}
+   * @return a {@link CacheFuture} providing the result of the processing, if
+   *         any
+   * @see Cache#invoke(Object, Cache.EntryProcessor, Object...)
+   */
+  <T> CacheFuture<T> invoke(K key,
+                            Cache.EntryProcessor<K, V, T> entryProcessor,
+                            Object... arguments);
+
+  /**
+   * Asynchronously invokes an {@link Cache.EntryProcessor} against the set of
+   * {@link Cache.Entry}s specified by the set of keys.
+   *
+   * @param keys           the set of keys for entries to process
+   * @param entryProcessor the {@link Cache.EntryProcessor} to invoke
+   * @param arguments      additional arguments to pass to the
+   *                       {@link Cache.EntryProcessor}
+   * @return a {@link CacheFuture} providing the map of results of the
+   *         processing per key, if any
+   * @see Cache#invokeAll(Set, Cache.EntryProcessor, Object...)
+   */
+  <T> CacheFuture<Map<K, T>> invokeAll(Set<? extends K> keys,
+                                       Cache.EntryProcessor<K, V, T> entryProcessor,
+                                       Object... arguments);
+}
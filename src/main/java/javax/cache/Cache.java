@@ -69,6 +69,10 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * the entry is missing from the cache, the Cache's
    * {@link javax.cache.integration.CacheLoader} is called which will attempt
    * to load the entry.
+   * <p/>
+   * When negative caching is enabled, a key that recently could not be loaded
+   * is not loaded again until its negative entry expires.
+   * See {@link javax.cache.configuration.Configuration#getNegativeExpiryPolicyFactory()}.
    *
    * @param key the key whose associated value is to be returned
    * @return the element, or null, if it does not exist.
@@ -93,6 +97,18 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * the case. If an entry cannot be loaded for a given key, the key will not be
    * present in the returned Map.
    * <p/>
+   * The missing keys are collected and loaded together with a single call of
+   * {@link javax.cache.integration.CacheLoader#loadAll(Iterable)} or, when
+   * there are more than
+   * {@link javax.cache.configuration.Configuration#getLoaderBatchSize()}
+   * missing keys, with one call per batch of that many keys.
+   * {@link javax.cache.integration.CacheLoader#load(Object)} is not called.
+   * Missing keys that are already being loaded by another thread are not
+   * loaded again; instead their values are those of the loads in progress.
+   * <p/>
+   * When negative caching is enabled, a key that recently could not be loaded
+   * is not loaded again until its negative entry expires.
+   * See {@link javax.cache.configuration.Configuration#getNegativeExpiryPolicyFactory()}.
    *
    * @param keys The keys whose associated values are to be returned.
    * @return A map of entries that were found for the given keys. Keys not found
@@ -144,6 +160,16 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * {@link Set} in parallel.  Iteration however must not occur in parallel,
    * thus allow for non-thread-safe {@link Set}s to be used.
    * <p/>
+   * The keys are partitioned into batches of at most
+   * {@link javax.cache.configuration.Configuration#getLoaderBatchSize()} keys,
+   * of which up to
+   * {@link javax.cache.configuration.Configuration#getLoaderParallelism()}
+   * are loaded concurrently, each by a call of
+   * {@link javax.cache.integration.CacheLoader#loadAll(Iterable)}.  Should
+   * the {@link CompletionListener} be a
+   * {@link javax.cache.integration.CompletionProgressListener} it is notified
+   * as each batch is loaded.
+   * <p/>
    * The thread on which the completion listener is called is implementation
    * dependent. An implementation may also choose to serialize calls to
    * different CompletionListeners rather than use a thread per
@@ -239,11 +265,24 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * <p/>
    * In Default Consistency mode, individual puts occur atomically but not
    * the entire putAll.  Listeners may observe individual updates.
+   * <p/>
+   * If the cache is configured write-through, but not write-behind, the
+   * entries are written with a single call of
+   * {@link javax.cache.integration.CacheWriter#writeAll(java.util.Collection)}
+   * or, when there are more than
+   * {@link javax.cache.configuration.Configuration#getWriterBatchSize()}
+   * entries, with one call per batch of that many entries.
+   * {@link javax.cache.integration.CacheWriter#write(Entry)} is not called.
+   * Entries that fail to be written are not stored in the cache and are
+   * reported by a {@link javax.cache.integration.PartialWriteException}.
    *
    * @param map mappings to be stored in this cache
    * @throws NullPointerException  if map is null or if map contains null keys
    *                               or values.
    * @throws IllegalStateException if the cache is {@link #isClosed()}
+   * @throws javax.cache.integration.PartialWriteException
+   *                               if the cache is write-through and some
+   *                               entries could not be written
    * @throws CacheException        if there is a problem doing the put.
    * @throws ClassCastException    if the implementation supports and is
    *                               configured to perform runtime-type-checking,
@@ -460,10 +499,23 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * Removes entries for the specified keys.
    * <p/>
    * The order in which the individual removes will occur is undefined.
+   * <p/>
+   * If the cache is configured write-through, but not write-behind, the keys
+   * are deleted with a single call of
+   * {@link javax.cache.integration.CacheWriter#deleteAll(java.util.Collection)}
+   * or, when there are more than
+   * {@link javax.cache.configuration.Configuration#getWriterBatchSize()}
+   * keys, with one call per batch of that many keys.
+   * {@link javax.cache.integration.CacheWriter#delete(Object)} is not called.
+   * Entries whose keys fail to be deleted are not removed from the cache and
+   * are reported by a {@link javax.cache.integration.PartialWriteException}.
    *
    * @param keys the keys to remove
    * @throws NullPointerException  if keys is null or if it contains a null key
    * @throws IllegalStateException if the cache is {@link #isClosed()}
+   * @throws javax.cache.integration.PartialWriteException
+   *                               if the cache is write-through and some
+   *                               keys could not be deleted
    * @throws CacheException        if there is a problem during the remove
    * @throws ClassCastException    if the implementation supports and is
    *                               configured to perform runtime-type-checking,
@@ -508,6 +560,10 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * the provided key.  If an {@link Entry} does not exist for the specified
    * key, an attempt is made to loaded it (if a loader is configured) or an
    * empty {@link Entry} is created and used instead.
+   * <p/>
+   * When negative caching is enabled, a key that recently could not be loaded
+   * is not loaded again until its negative entry expires.
+   * See {@link javax.cache.configuration.Configuration#getNegativeExpiryPolicyFactory()}.
    *
    * @param key            the key to the entry
    * @param entryProcessor the {@link EntryProcessor} to invoke
@@ -634,6 +690,13 @@ public interface Cache<K, V> extends Iterable<Cache.Entry<K, V>>, Closeable {
    * <p/>
    * If the provider's implementation does not support the specified class,
    * the {@link IllegalArgumentException} is thrown.
+   * <p/>
+   * Implementations providing non-blocking operations return an
+   * {@link AsyncCache} view of the {@link Cache} when <code>AsyncCache.class</code>
+   * is specified.  Likewise implementations providing views for primitive keys
+   * return a {@link LongKeyCache} or {@link IntKeyCache} view of a
+   * {@link Cache} with {@link Long} or {@link Integer} keys respectively.  Implementations
+   * supporting bulk snapshot and restore return a {@link SnapshotCache} view.
    *
    * @param clazz the proprietary class or interface of the underlying concrete
    *              cache. It is this type which is returned.
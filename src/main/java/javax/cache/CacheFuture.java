@@ -0,0 +1,50 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache;
+
+import javax.cache.integration.CompletionListener;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link Future} representing the result of an asynchronous {@link Cache}
+ * operation, to which {@link CompletionListener}s may be attached so that
+ * applications can be notified of completion instead of blocking in
+ * {@link #get()}.
+ * <p/>
+ * Once a {@link CompletionListener} has been notified of successful completion
+ * the result of the operation may be retrieved using {@link #get()} without
+ * blocking.
+ *
+ * @param <T> the type of the result of the operation
+ * @see AsyncCache
+ * @since 1.0
+ */
+public interface CacheFuture<T> extends Future<T> {
+
+  /**
+   * Registers a {@link CompletionListener} to be notified when the operation
+   * completes, either successfully or exceptionally.
+   * <p/>
+   * Should the operation have already completed, the
+   * {@link CompletionListener} is notified immediately using the calling
+   * thread.  Otherwise the thread on which the {@link CompletionListener} is
+   * notified is implementation dependent.  As such {@link CompletionListener}s
+   * should not block.
+   * <p/>
+   * {@link CompletionListener}s are notified at most once, in no defined
+   * order.  An exception thrown by a {@link CompletionListener} neither
+   * prevents the notification of other {@link CompletionListener}s nor
+   * propagates to the thread completing the operation.  Implementations should
+   * instead report it, for example to the
+   * {@link Thread.UncaughtExceptionHandler} of the notifying thread.
+   *
+   * @param listener the {@link CompletionListener} to notify
+   * @throws NullPointerException if the listener is null
+   */
+  void addCompletionListener(CompletionListener listener);
+}
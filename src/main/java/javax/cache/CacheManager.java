@@ -112,6 +112,12 @@ public interface CacheManager extends Closeable {
    * {@link javax.cache.configuration.Configuration} so that it may be further
    * used to configure other {@link Cache}s without causing side-effects.
    * <p/>
+   * When the {@link javax.cache.configuration.Configuration} specifies a
+   * {@link javax.cache.configuration.Configuration#getPersistenceDirectory()}
+   * containing entries previously persisted by a {@link Cache} of the same
+   * name, managed by a {@link CacheManager} with the same {@link #getURI()},
+   * the returned {@link Cache} contains those entries.
+   * <p/>
    * There's no requirement on the part of a developer to call this method for
    * each {@link Cache} an application may use.  Implementations may support
    * the use of declarative mechanisms to pre-configure {@link Cache}s, thus
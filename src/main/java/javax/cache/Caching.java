@@ -8,12 +8,17 @@
 package javax.cache;
 
 import javax.cache.spi.CachingProvider;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link Caching} class provides a convenient means for an application to
@@ -45,6 +50,14 @@ import java.util.WeakHashMap;
  * <code>javax.cache.CachingProvider</code>, that implementation will be used
  * as the default {@link CachingProvider}.
  * <p/>
+ * To avoid the cost of scanning the class path for
+ * <code>META-INF/services</code> declarations at start-up, the fully qualified
+ * class names of the available {@link CachingProvider} implementations may
+ * instead be listed (comma separated) using the system property
+ * <code>javax.cache.CachingProviders</code>.  When defined, the listed
+ * {@link CachingProvider}s are eagerly loaded and the {@link ServiceLoader} is
+ * not consulted.
+ * <p/>
  * All {@link CachingProvider}s that are automatically detected or explicitly
  * declared and loaded by the {@link Caching} class are maintained in an
  * internal registry.  Consequently when a previously loaded
@@ -83,6 +96,11 @@ public final class Caching {
    */
   public static final String JAVAX_CACHE_CACHING_PROVIDER = "javax.cache.CachingProvider";
 
+  /**
+   * The javax.cache.CachingProviders constant.
+   */
+  public static final String JAVAX_CACHE_CACHING_PROVIDERS = "javax.cache.CachingProviders";
+
   /**
    * The {@link CachingProviderRegistry} that tracks the {@link CachingProvider}s.
    */
@@ -153,6 +171,8 @@ public final class Caching {
    * <p/>
    * If a <code>javax.cache.cachingprovider</code> system property is defined,
    * only that {@link CachingProvider} specified by that property is returned.
+   * Otherwise if a <code>javax.cache.CachingProviders</code> system property is
+   * defined, the {@link CachingProvider}s listed by that property are returned.
    * Otherwise all {@link CachingProvider}s that are available via a
    * {@link ServiceLoader} for {@link CachingProvider}s using the default
    * {@link ClassLoader} (including those previously requested via
@@ -171,6 +191,8 @@ public final class Caching {
    * <p/>
    * If a <code>javax.cache.cachingprovider</code> system property is defined,
    * only that {@link CachingProvider} specified by that property is returned.
+   * Otherwise if a <code>javax.cache.CachingProviders</code> system property is
+   * defined, the {@link CachingProvider}s listed by that property are returned.
    * Otherwise all {@link CachingProvider}s that are available via a
    * {@link ServiceLoader} for {@link CachingProvider}s using the specified
    * {@link ClassLoader} (including those previously requested via
@@ -222,14 +244,43 @@ public final class Caching {
   /**
    * Maintains a registry of loaded {@link CachingProvider}s scoped by
    * {@link ClassLoader}.
+   * <p/>
+   * Once the {@link CachingProvider}s for a {@link ClassLoader} have been
+   * loaded, looking them up again does not acquire any locks.  The
+   * {@link CachingProvider}s for each {@link ClassLoader} are held in an
+   * immutable map that is replaced (copy-on-write) whenever a
+   * {@link CachingProvider} is added, so that lookups only read from a
+   * {@link ConcurrentHashMap}, using a short-lived key that compares
+   * {@link ClassLoader}s by identity.  Synchronization is only used while
+   * {@link CachingProvider}s are being discovered and loaded.
+   * <p/>
+   * {@link ClassLoader}s are weakly referenced so that the registry does not
+   * prevent them from being garbage collected.  The {@link CachingProvider}s
+   * for a <code>null</code> {@link ClassLoader}, as may be returned by
+   * {@link Thread#getContextClassLoader()}, are held separately.
    */
   public static class CachingProviderRegistry {
 
     /**
      * The {@link CachingProvider}s by Class Name organized by the
-     * {@link ClassLoader} was used to load them.
+     * {@link ClassLoader} was used to load them.  The maps of
+     * {@link CachingProvider}s are never mutated once published.  Keys are
+     * {@link ClassLoaderReference}s, which are found using
+     * {@link ClassLoaderKey}s.
+     */
+    private final ConcurrentHashMap<Object, Map<String, CachingProvider>> cachingProviders;
+
+    /**
+     * The {@link CachingProvider}s by Class Name for the <code>null</code>
+     * {@link ClassLoader}, or <code>null</code> if they have not been loaded.
+     */
+    private volatile Map<String, CachingProvider> nullClassLoaderCachingProviders;
+
+    /**
+     * The {@link ReferenceQueue} on which {@link ClassLoaderReference}s are
+     * enqueued once their {@link ClassLoader} has been garbage collected.
      */
-    private WeakHashMap<ClassLoader, LinkedHashMap<String, CachingProvider>> cachingProviders;
+    private final ReferenceQueue<ClassLoader> collectedClassLoaders;
 
     /**
      * The default {@link ClassLoader}.  When <code>null</code> the
@@ -241,7 +292,9 @@ public final class Caching {
      * Constructs a CachingProviderManager.
      */
     public CachingProviderRegistry() {
-      this.cachingProviders = new WeakHashMap<ClassLoader, LinkedHashMap<String, CachingProvider>>();
+      this.cachingProviders = new ConcurrentHashMap<Object, Map<String, CachingProvider>>();
+      this.nullClassLoaderCachingProviders = null;
+      this.collectedClassLoaders = new ReferenceQueue<ClassLoader>();
       this.classLoader = null;
     }
 
@@ -325,7 +378,9 @@ public final class Caching {
      * <p/>
      * If a <code>javax.cache.cachingprovider</code> system property is defined,
      * only that {@link CachingProvider} specified by that property is returned.
-     * Otherwise all {@link CachingProvider}s that are available via a
+     * Otherwise if a <code>javax.cache.CachingProviders</code> system property
+     * is defined, the {@link CachingProvider}s listed by that property are
+     * returned.  Otherwise all {@link CachingProvider}s that are available via a
      * {@link ServiceLoader} for {@link CachingProvider}s using the default
      * {@link ClassLoader} (and those explicitly requested via
      * {@link #getCachingProvider(String)}) are returned.
@@ -343,7 +398,9 @@ public final class Caching {
      * <p/>
      * If a <code>javax.cache.cachingprovider</code> system property is defined,
      * only that {@link CachingProvider} specified by that property is returned.
-     * Otherwise all {@link CachingProvider}s that are available via a
+     * Otherwise if a <code>javax.cache.CachingProviders</code> system property
+     * is defined, the {@link CachingProvider}s listed by that property are
+     * returned.  Otherwise all {@link CachingProvider}s that are available via a
      * {@link ServiceLoader} for {@link CachingProvider}s using the specified
      * {@link ClassLoader} (and those explicitly requested via
      * {@link #getCachingProvider(String, ClassLoader)}) are returned.
@@ -353,20 +410,47 @@ public final class Caching {
      * @return an {@link Iterable} of {@link CachingProvider}s loaded by the
      *         specified {@link ClassLoader}
      */
-    public synchronized Iterable<CachingProvider> getCachingProviders(ClassLoader classLoader) {
+    public Iterable<CachingProvider> getCachingProviders(ClassLoader classLoader) {
+      ClassLoader serviceClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
+      Map<String, CachingProvider> providers = getRegisteredCachingProviders(serviceClassLoader);
+
+      if (providers == null) {
+        providers = loadCachingProviders(serviceClassLoader);
+      }
 
-      final ClassLoader serviceClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
-      LinkedHashMap<String, CachingProvider> providers = cachingProviders.get(serviceClassLoader);
+      return providers.values();
+    }
+
+    /**
+     * Loads and registers the {@link CachingProvider}s that are available via
+     * the specified {@link ClassLoader}, unless another thread has already
+     * done so, in which case those are returned.
+     *
+     * @param serviceClassLoader the {@link ClassLoader} to use
+     * @return an immutable map of the {@link CachingProvider}s by class name
+     */
+    private synchronized Map<String, CachingProvider> loadCachingProviders(final ClassLoader serviceClassLoader) {
+      Map<String, CachingProvider> providers = getRegisteredCachingProviders(serviceClassLoader);
 
       if (providers == null) {
+        LinkedHashMap<String, CachingProvider> loaded;
 
         if (System.getProperties().containsKey(JAVAX_CACHE_CACHING_PROVIDER)) {
           String className = System.getProperty(JAVAX_CACHE_CACHING_PROVIDER);
-          providers = new LinkedHashMap<String, CachingProvider>();
-          providers.put(className, loadCachingProvider(className, serviceClassLoader));
+          loaded = new LinkedHashMap<String, CachingProvider>();
+          loaded.put(className, loadCachingProvider(className, serviceClassLoader));
+
+        } else if (System.getProperties().containsKey(JAVAX_CACHE_CACHING_PROVIDERS)) {
+          loaded = new LinkedHashMap<String, CachingProvider>();
+          for (String className : System.getProperty(JAVAX_CACHE_CACHING_PROVIDERS).split(",")) {
+            className = className.trim();
+            if (className.length() > 0 && !loaded.containsKey(className)) {
+              loaded.put(className, loadCachingProvider(className, serviceClassLoader));
+            }
+          }
 
         } else {
-          providers = AccessController.doPrivileged(new PrivilegedAction<LinkedHashMap<String, CachingProvider>>() {
+          loaded = AccessController.doPrivileged(new PrivilegedAction<LinkedHashMap<String, CachingProvider>>() {
             @Override
             public LinkedHashMap<String, CachingProvider> run() {
               LinkedHashMap<String, CachingProvider> result = new LinkedHashMap<String, CachingProvider>();
@@ -381,10 +465,54 @@ public final class Caching {
 
         }
 
-        cachingProviders.put(serviceClassLoader, providers);
+        providers = Collections.unmodifiableMap(loaded);
+        registerCachingProviders(serviceClassLoader, providers);
       }
 
-      return providers.values();
+      return providers;
+    }
+
+    /**
+     * Obtains the {@link CachingProvider}s registered for the specified
+     * {@link ClassLoader}, without acquiring any locks.
+     *
+     * @param serviceClassLoader the {@link ClassLoader}, which may be null
+     * @return an immutable map of the {@link CachingProvider}s by class name,
+     *         or <code>null</code> if none have been registered
+     */
+    private Map<String, CachingProvider> getRegisteredCachingProviders(ClassLoader serviceClassLoader) {
+      return serviceClassLoader == null
+          ? nullClassLoaderCachingProviders
+          : cachingProviders.get(new ClassLoaderKey(serviceClassLoader));
+    }
+
+    /**
+     * Publishes the {@link CachingProvider}s for the specified
+     * {@link ClassLoader}, replacing any previously registered.  Must only be
+     * called while synchronized on this registry.
+     *
+     * @param serviceClassLoader the {@link ClassLoader}, which may be null
+     * @param providers          an immutable map of the {@link CachingProvider}s
+     *                           by class name
+     */
+    private void registerCachingProviders(ClassLoader serviceClassLoader, Map<String, CachingProvider> providers) {
+      if (serviceClassLoader == null) {
+        nullClassLoaderCachingProviders = providers;
+      } else {
+        expungeCollectedClassLoaders();
+        cachingProviders.put(new ClassLoaderReference(serviceClassLoader, collectedClassLoaders), providers);
+      }
+    }
+
+    /**
+     * Removes the {@link CachingProvider}s registered for {@link ClassLoader}s
+     * that have since been garbage collected.
+     */
+    private void expungeCollectedClassLoaders() {
+      Reference<? extends ClassLoader> reference;
+      while ((reference = collectedClassLoaders.poll()) != null) {
+        cachingProviders.remove(reference);
+      }
     }
 
     /**
@@ -442,26 +570,131 @@ public final class Caching {
      * @return the {@link CachingProvider}
      * @throws CacheException when the {@link CachingProvider} can't be created
      */
-    public synchronized CachingProvider getCachingProvider(String fullyQualifiedClassName, ClassLoader classLoader) {
+    public CachingProvider getCachingProvider(String fullyQualifiedClassName, ClassLoader classLoader) {
       ClassLoader serviceClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
 
-      LinkedHashMap<String, CachingProvider> providers = cachingProviders.get(serviceClassLoader);
+      Map<String, CachingProvider> providers = getRegisteredCachingProviders(serviceClassLoader);
+      CachingProvider provider = providers == null ? null : providers.get(fullyQualifiedClassName);
 
-      if (providers == null) {
-        // first load the CachingProviders for the {@link ClassLoader}
-        // this may automatically load the CachingProvider we desire
-        getCachingProviders(serviceClassLoader);
-        providers = cachingProviders.get(serviceClassLoader);
-      }
+      return provider == null ? registerCachingProvider(fullyQualifiedClassName, serviceClassLoader) : provider;
+    }
+
+    /**
+     * Loads, instantiates and registers the {@link CachingProvider} with the
+     * specified fully qualified class name for the provided {@link ClassLoader},
+     * unless it has already been registered, in which case it is returned.
+     *
+     * @param fullyQualifiedClassName the fully qualified class name of the
+     *                                {@link CachingProvider}
+     * @param serviceClassLoader      the {@link ClassLoader} to load the
+     *                                {@link CachingProvider}
+     * @return the {@link CachingProvider}
+     * @throws CacheException when the {@link CachingProvider} can't be created
+     */
+    private synchronized CachingProvider registerCachingProvider(String fullyQualifiedClassName,
+                                                                 ClassLoader serviceClassLoader) {
+      // first load the CachingProviders for the {@link ClassLoader}
+      // this may automatically load the CachingProvider we desire
+      Map<String, CachingProvider> providers = loadCachingProviders(serviceClassLoader);
 
       CachingProvider provider = providers.get(fullyQualifiedClassName);
 
       if (provider == null) {
         provider = loadCachingProvider(fullyQualifiedClassName, serviceClassLoader);
-        providers.put(fullyQualifiedClassName, provider);
+
+        LinkedHashMap<String, CachingProvider> updated = new LinkedHashMap<String, CachingProvider>(providers);
+        updated.put(fullyQualifiedClassName, provider);
+        registerCachingProviders(serviceClassLoader, Collections.unmodifiableMap(updated));
       }
 
       return provider;
     }
   }
+
+  /**
+   * A {@link WeakReference} to a {@link ClassLoader} that compares by the
+   * identity of the referenced {@link ClassLoader}, for use as a key in the
+   * {@link CachingProviderRegistry}.
+   */
+  private static final class ClassLoaderReference extends WeakReference<ClassLoader> {
+
+    /**
+     * The identity hash code of the referenced {@link ClassLoader}, retained
+     * so that the reference can be removed once it has been cleared.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs a {@link ClassLoaderReference} that will be enqueued on the
+     * specified {@link ReferenceQueue} once the {@link ClassLoader} is
+     * collected.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @param queue       the {@link ReferenceQueue}
+     */
+    ClassLoaderReference(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+      super(classLoader, queue);
+      this.hashCode = System.identityHashCode(classLoader);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      } else if (object instanceof ClassLoaderKey) {
+        ClassLoader classLoader = get();
+        return classLoader != null && classLoader == ((ClassLoaderKey) object).classLoader;
+      } else if (object instanceof ClassLoaderReference) {
+        ClassLoader classLoader = get();
+        return classLoader != null && classLoader == ((ClassLoaderReference) object).get();
+      } else {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * A strong, short-lived key for looking up the {@link ClassLoaderReference}
+   * of a {@link ClassLoader} in the {@link CachingProviderRegistry}, which
+   * compares by the identity of the {@link ClassLoader}.
+   */
+  private static final class ClassLoaderKey {
+
+    /**
+     * The {@link ClassLoader} to look up.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Constructs a {@link ClassLoaderKey}.
+     *
+     * @param classLoader the {@link ClassLoader}
+     */
+    ClassLoaderKey(ClassLoader classLoader) {
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(classLoader);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      } else if (object instanceof ClassLoaderReference) {
+        return classLoader == ((ClassLoaderReference) object).get();
+      } else if (object instanceof ClassLoaderKey) {
+        return classLoader == ((ClassLoaderKey) object).classLoader;
+      } else {
+        return false;
+      }
+    }
+  }
 }
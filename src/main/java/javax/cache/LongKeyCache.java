@@ -0,0 +1,131 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache;
+
+import java.util.List;
+
+/**
+ * A view of a {@link Cache} with <code>Long</code> keys that accepts
+ * <code>long</code> keys, so that applications can avoid boxing keys.
+ * <p/>
+ * A {@link LongKeyCache} is obtained from a <code>Cache&lt;Long, V&gt;</code>
+ * using <code>cache.unwrap(LongKeyCache.class)</code>.  Implementations that don't
+ * provide such a view throw an {@link IllegalArgumentException}.
+ * Implementations providing one are expected to store the entries of the
+ * {@link Cache} in tables keyed by <code>long</code> values, for example
+ * using open addressing, such that operations on this view neither box keys
+ * nor allocate per entry.
+ * <p/>
+ * Each operation has the semantics of the corresponding {@link Cache}
+ * operation, including those of read-through, write-through, expiry,
+ * statistics and listener notification, and the changes it makes are visible
+ * through the {@link Cache} returned by {@link #getCache()}, and vice versa.
+ * The {@link Cache} remains the means of interoperating with APIs that expect
+ * a {@link Cache}.  Keys provided to {@link javax.cache.integration.CacheLoader}s,
+ * {@link javax.cache.integration.CacheWriter}s, listeners and
+ * {@link Cache.EntryProcessor}s are boxed.
+ *
+ * @param <V> the type of value
+ * @see Cache#unwrap(Class)
+ * @since 1.0
+ */
+public interface LongKeyCache<V> {
+
+  /**
+   * Obtains the {@link Cache} of which this is a view.
+   *
+   * @return the {@link Cache}
+   */
+  Cache<Long, V> getCache();
+
+  /**
+   * Gets the value associated with the specified key.
+   *
+   * @param key the key whose associated value is to be returned
+   * @return the value, or null if it does not exist
+   * @see Cache#get(Object)
+   */
+  V get(long key);
+
+  /**
+   * Gets the values associated with the specified keys.
+   *
+   * @param keys the keys whose associated values are to be returned
+   * @return a {@link List} with the value associated with the key at the same
+   *         position in the keys, or null where it does not exist
+   * @throws NullPointerException if keys is null
+   * @see Cache#getAll(java.util.Set)
+   */
+  List<V> getAll(long[] keys);
+
+  /**
+   * Determines if the {@link Cache} contains an entry for the specified key.
+   *
+   * @param key the key whose presence is to be tested
+   * @return <tt>true</tt> if the {@link Cache} contains an entry for the key
+   * @see Cache#containsKey(Object)
+   */
+  boolean containsKey(long key);
+
+  /**
+   * Associates the specified value with the specified key.
+   *
+   * @param key   the key with which the specified value is to be associated
+   * @param value the value to be associated with the specified key
+   * @throws NullPointerException if value is null
+   * @see Cache#put(Object, Object)
+   */
+  void put(long key, V value);
+
+  /**
+   * Associates the specified value with the specified key, returning the
+   * previously associated value.
+   *
+   * @param key   the key with which the specified value is to be associated
+   * @param value the value to be associated with the specified key
+   * @return the previously associated value, or null if none was
+   * @throws NullPointerException if value is null
+   * @see Cache#getAndPut(Object, Object)
+   */
+  V getAndPut(long key, V value);
+
+  /**
+   * Associates the specified value with the specified key if it is not
+   * already associated with a value.
+   *
+   * @param key   the key with which the specified value is to be associated
+   * @param value the value to be associated with the specified key
+   * @return true if a value was set
+   * @throws NullPointerException if value is null
+   * @see Cache#putIfAbsent(Object, Object)
+   */
+  boolean putIfAbsent(long key, V value);
+
+  /**
+   * Removes the entry for the specified key.
+   *
+   * @param key the key whose entry is to be removed
+   * @return false if there was no entry for the key
+   * @see Cache#remove(Object)
+   */
+  boolean remove(long key);
+
+  /**
+   * Invokes an {@link Cache.EntryProcessor} against the {@link Cache.Entry}
+   * specified by the provided key.
+   *
+   * @param key            the key to the entry
+   * @param entryProcessor the {@link Cache.EntryProcessor} to invoke
+   * @param arguments      additional arguments to pass to the
+   *                       {@link Cache.EntryProcessor}
+   * @return the result of the processing, if any
+   * @throws NullPointerException if the {@link Cache.EntryProcessor} is null
+   * @see Cache#invoke(Object, Cache.EntryProcessor, Object...)
+   */
+  <T> T invoke(long key, Cache.EntryProcessor<Long, V, T> entryProcessor, Object... arguments);
+}
@@ -0,0 +1,94 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+
+package javax.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A view of a {@link Cache} that writes all of its entries to, and restores
+ * them from, a stream in bulk.
+ * <p/>
+ * An {@link SnapshotCache} is obtained from a {@link Cache} using
+ * <code>cache.unwrap(SnapshotCache.class)</code>.  Implementations that don't
+ * provide such a view throw an {@link IllegalArgumentException}.
+ * <p/>
+ * Snapshots are written in an implementation specific binary format, which
+ * implementations are expected to stream in compressed chunks directly from
+ * their internal storage, such that taking or restoring a snapshot proceeds
+ * at the speed of the underlying stream rather than that of per-entry
+ * {@link Cache} operations.  The format records the expiry time of each entry
+ * and a snapshot must be restorable by later versions of the implementation
+ * that wrote it.  Keys and values are written using the configured
+ * {@link javax.cache.spi.Serializer}s.
+ * <p/>
+ * Neither taking nor restoring a snapshot calls a
+ * {@link javax.cache.integration.CacheLoader} or
+ * {@link javax.cache.integration.CacheWriter}, dispatches events to
+ * {@link javax.cache.event.CacheEntryListener}s, updates statistics or
+ * affects the expiry of entries due to access.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ * @see Cache#unwrap(Class)
+ * @since 1.0
+ */
+public interface SnapshotCache<K, V> {
+
+  /**
+   * Obtains the {@link Cache} of which this is a view.
+   *
+   * @return the {@link Cache}
+   */
+  Cache<K, V> getCache();
+
+  /**
+   * Writes a snapshot of the entries of the {@link Cache} to a stream.
+   * <p/>
+   * The snapshot holds the entries of the {@link Cache} at a single point in
+   * time, after which the {@link Cache} may continue to be mutated
+   * concurrently without those mutations being written.  Entries that have
+   * expired are not written.
+   * <p/>
+   * The stream is not closed by this method.
+   *
+   * @param outputStream the stream to which to write the snapshot
+   * @return the number of entries written
+   * @throws NullPointerException  if the stream is null
+   * @throws IllegalStateException if the cache is {@link Cache#isClosed()}
+   * @throws IOException           if writing to the stream fails
+   * @throws CacheException        if an entry can't be serialized
+   */
+  long snapshot(OutputStream outputStream) throws IOException;
+
+  /**
+   * Restores the entries in a snapshot, previously written by
+   * {@link #snapshot(OutputStream)}, into the {@link Cache}.
+   * <p/>
+   * Restored entries retain the expiry times they had when the snapshot was
+   * taken.  Entries that have since expired are skipped.  An entry in the
+   * snapshot replaces an existing entry of the same key only if
+   * <code>replaceExisting</code> is true.
+   * <p/>
+   * The stream is not closed by this method.
+   *
+   * @param inputStream     the stream from which to read the snapshot
+   * @param replaceExisting whether entries in the snapshot replace existing
+   *                        entries with the same keys
+   * @return the number of entries restored
+   * @throws NullPointerException  if the stream is null
+   * @throws IllegalStateException if the cache is {@link Cache#isClosed()}
+   * @throws IOException           if reading from the stream fails
+   * @throws CacheException        if the stream doesn't contain a snapshot
+   *                               this implementation can read, or an entry
+   *                               can't be deserialized
+   */
+  long restore(InputStream inputStream, boolean replaceExisting) throws IOException;
+}
@@ -7,12 +7,28 @@
 package javax.cache.configuration;
 
 import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.CacheEntryKeyFilter;
 import javax.cache.event.CacheEntryListener;
+import javax.cache.expiry.Duration;
 
 /**
  * Defines the configuration requirements for a
  * {@link javax.cache.event.CacheEntryListener} and a {@link Factory} for its
  * creation.
+ * <p/>
+ * Events for an asynchronous {@link CacheEntryListener} are placed in a
+ * bounded queue dedicated to the {@link CacheEntryListener}, holding at most
+ * {@link #getDispatchQueueSize()} events, from which they are delivered in
+ * batches of up to {@link #getDispatchBatchSize()} events.  A batch is
+ * delivered once it is full or once its first event has waited for
+ * {@link #getDispatchLinger()}, whichever is sooner.  Events for the same key
+ * are delivered in the order in which they occurred.
+ * <p/>
+ * Should the queue be full, threads mutating the {@link javax.cache.Cache}
+ * block until it has space, such that a slow {@link CacheEntryListener}
+ * applies backpressure rather than causing unbounded memory use.  The extent
+ * of this is reported by
+ * {@link javax.cache.management.CacheStatisticsMXBean#getCacheEventDispatchWaits()}.
  *
  * @param <K> the type of keys
  * @param <V> the type of values
@@ -52,6 +68,19 @@ public interface CacheEntryListenerConfiguration<K, V> {
   Factory<CacheEntryEventFilter<? super K, ? super V>>
   getCacheEntryEventFilterFactory();
 
+  /**
+   * Obtains the {@link Factory} for the
+   * {@link javax.cache.event.CacheEntryKeyFilter} that should be applied to
+   * the key and type of an event before its values are obtained and the
+   * {@link #getCacheEntryEventFilterFactory()} filter is applied.
+   * When <code>null</code> no such filtering is applied.
+   *
+   * @return the {@link Factory} for the
+   *         {@link javax.cache.event.CacheEntryKeyFilter} or <code>null</code>
+   *         if no key filtering is required
+   */
+  Factory<CacheEntryKeyFilter<? super K>> getCacheEntryKeyFilterFactory();
+
   /**
    * Determines if the thread that caused an event to be created should be
    * blocked (not return from the operation causing the event) until the
@@ -60,4 +89,56 @@ public interface CacheEntryListenerConfiguration<K, V> {
    * @return <code>true</code> if the thread that created the event should block
    */
   boolean isSynchronous();
+
+  /**
+   * Obtains the maximum number of events that may be queued for delivery to
+   * an asynchronous {@link CacheEntryListener}.
+   * <p/>
+   * The default value is <code>1024</code>.
+   *
+   * @return the maximum number of queued events
+   */
+  int getDispatchQueueSize();
+
+  /**
+   * Obtains the maximum number of events delivered to an asynchronous
+   * {@link CacheEntryListener} in a single call.
+   * <p/>
+   * The default value is <code>1</code>.
+   *
+   * @return the maximum number of events in a batch
+   */
+  int getDispatchBatchSize();
+
+  /**
+   * Obtains the maximum time an event waits for a batch to fill before
+   * being delivered to an asynchronous {@link CacheEntryListener}.
+   * <p/>
+   * The default value is {@link Duration#ZERO}, meaning events are delivered
+   * as soon as possible, in batches of those already queued.
+   *
+   * @return the linger time of a batch
+   */
+  Duration getDispatchLinger();
+
+  /**
+   * Determines if {@link javax.cache.event.EventType#UPDATED} events for the
+   * same key that are queued for an asynchronous {@link CacheEntryListener}
+   * should be coalesced into a single event.
+   * <p/>
+   * When coalescing, an {@link javax.cache.event.EventType#UPDATED} event
+   * that is queued while an earlier one for the same key is still awaiting
+   * delivery, with no other event for that key queued between them, replaces
+   * the earlier event.  The resulting event has the value of the later event
+   * and, when {@link #isOldValueRequired()}, the old value of the earlier
+   * event.  Events of other types are never coalesced, and the order of the
+   * events delivered for a key is unchanged.
+   * <p/>
+   * Coalescing has no effect on synchronous {@link CacheEntryListener}s.
+   * <p/>
+   * The default value is <code>false</code>.
+   *
+   * @return <code>true</code> if queued update events should be coalesced
+   */
+  boolean isCoalescing();
 }
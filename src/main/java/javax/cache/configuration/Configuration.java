@@ -7,9 +7,12 @@
 
 package javax.cache.configuration;
 
+import javax.cache.eviction.EvictionPolicy;
+import javax.cache.eviction.Weigher;
 import javax.cache.expiry.ExpiryPolicy;
 import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CacheWriter;
+import javax.cache.spi.Serializer;
 import javax.cache.transaction.IsolationLevel;
 import javax.cache.transaction.Mode;
 import java.io.Serializable;
@@ -56,6 +59,10 @@ public interface Configuration<K, V> extends Serializable {
    * cause
    * the configured {@link javax.cache.integration.CacheLoader} to be invoked.
    * <p/>
+   * Concurrent cache misses for the same key are coalesced, such that a
+   * single {@link javax.cache.integration.CacheLoader#load(Object)} is
+   * performed for the key and the other threads wait for its result.
+   * <p/>
    * The default value is <code>false</code>.
    *
    * @return <code>true</code> when a {@link javax.cache.Cache} is in "read-through" mode.
@@ -104,7 +111,8 @@ public interface Configuration<K, V> extends Serializable {
    * in a CacheException.
    * <p/>
    * When a cache is storeByValue, any mutation to the key or value does not affect the key of value
-   * stored in the cache.
+   * stored in the cache.  Keys and values are copied using the configured
+   * {@link Serializer}s, other than instances of the {@link #getImmutableTypes()}.
    * <p/>
    * The default value is <code>true</code>.
    *
@@ -192,6 +200,22 @@ public interface Configuration<K, V> extends Serializable {
    */
   Factory<CacheWriter<? super K, ? super V>> getCacheWriterFactory();
 
+  /**
+   * Gets the {@link WriteBehindConfiguration} for a {@link javax.cache.Cache}
+   * in "write-through" mode, if any.
+   * <p/>
+   * When defined, writes and deletes are queued and performed asynchronously
+   * by the {@link javax.cache.integration.CacheWriter} in batches, instead of
+   * synchronously as part of the cache operation.
+   * <p/>
+   * The default value is <code>null</code>.
+   *
+   * @return the {@link WriteBehindConfiguration} or null if writes should be
+   *         performed synchronously
+   * @see #isWriteThrough()
+   */
+  WriteBehindConfiguration getWriteBehindConfiguration();
+
   /**
    * Gets the {@link Factory} for the {@link javax.cache.expiry.ExpiryPolicy} to be used for caches.
    * <p/>
@@ -202,4 +226,309 @@ public interface Configuration<K, V> extends Serializable {
    */
   Factory<ExpiryPolicy<? super K, ? super V>> getExpiryPolicyFactory();
 
+  /**
+   * Gets the refresh-ahead factor for a {@link javax.cache.Cache} in
+   * "read-through" mode.
+   * <p/>
+   * When an entry is accessed during the final fraction of its expiry
+   * duration given by this factor, the entry is reloaded asynchronously using
+   * the configured {@link javax.cache.integration.CacheLoader}.  The current
+   * value continues to be returned until the reload completes, at which point
+   * the reloaded value replaces it as an update of the existing entry: its
+   * expiry duration is given by
+   * {@link javax.cache.expiry.ExpiryPolicy#getExpiryForModifiedEntry}, and
+   * when the reloaded value isn't equal to the current value an
+   * {@link javax.cache.event.EventType#UPDATED} event is dispatched, with the
+   * current value as the old value.  As the value originates from the
+   * {@link javax.cache.integration.CacheLoader} it is not written to the
+   * {@link javax.cache.integration.CacheWriter}, nor is it counted as a put
+   * in the statistics.  At most one refresh is in progress for an entry at a
+   * time.  Should a refresh fail, or the
+   * {@link javax.cache.integration.CacheLoader} return <code>null</code>, the
+   * entry is left unchanged to expire.
+   * <p/>
+   * For example, with a {@link javax.cache.expiry.CreatedExpiryPolicy} of ten
+   * minutes and a factor of <code>0.2</code>, an entry accessed more than eight
+   * minutes after creation is refreshed.  Entries that don't expire are never
+   * refreshed.
+   * <p/>
+   * The default value is <code>0</code>, meaning entries are not refreshed
+   * ahead of expiry.
+   *
+   * @return the refresh-ahead factor, between <code>0</code> and <code>1</code>
+   * @see #isReadThrough()
+   */
+  float getRefreshAheadFactor();
+
+  /**
+   * Gets the maximum number of keys passed to a single call of
+   * {@link javax.cache.integration.CacheLoader#loadAll(Iterable)}.
+   * <p/>
+   * Operations loading more keys than this, such as
+   * {@link javax.cache.Cache#loadAll(java.util.Set, boolean,
+   * javax.cache.integration.CompletionListener)} and a read-through
+   * {@link javax.cache.Cache#getAll(java.util.Set)}, partition the keys into
+   * batches of at most this many keys and load each batch with a separate
+   * call.
+   * <p/>
+   * The default value is <code>0</code>, meaning all keys are passed to a
+   * single call.
+   *
+   * @return the maximum number of keys loaded by a single call
+   * @see #getLoaderParallelism()
+   */
+  int getLoaderBatchSize();
+
+  /**
+   * Gets the maximum number of batches of keys that a single
+   * {@link javax.cache.Cache#loadAll(java.util.Set, boolean,
+   * javax.cache.integration.CompletionListener)} loads concurrently, using
+   * separate calls of
+   * {@link javax.cache.integration.CacheLoader#loadAll(Iterable)}.
+   * <p/>
+   * The {@link javax.cache.integration.CompletionListener} of the operation
+   * is notified once all batches have been loaded, or with the first
+   * exception that occurs.  After an exception no further batches are started
+   * and the listener is notified only once the batches already being loaded
+   * have finished.  Should it be a
+   * {@link javax.cache.integration.CompletionProgressListener} it is also
+   * notified as each batch is loaded.
+   * <p/>
+   * The default value is <code>1</code>, meaning batches are loaded one at a
+   * time.
+   *
+   * @return the maximum number of batches loaded concurrently
+   * @see #getLoaderBatchSize()
+   */
+  int getLoaderParallelism();
+
+  /**
+   * Gets the maximum number of entries or keys passed to a single call of
+   * {@link javax.cache.integration.CacheWriter#writeAll(java.util.Collection)}
+   * or {@link javax.cache.integration.CacheWriter#deleteAll(java.util.Collection)}
+   * by a write-through {@link javax.cache.Cache#putAll(java.util.Map)} or
+   * {@link javax.cache.Cache#removeAll(java.util.Set)}.
+   * <p/>
+   * Operations writing more entries than this partition them into batches of
+   * at most this many entries and write each batch with a separate call.
+   * <p/>
+   * This does not apply when a {@link #getWriteBehindConfiguration()} is
+   * configured, in which case batches are bounded by
+   * {@link WriteBehindConfiguration#getMaximumBatchSize()}.
+   * <p/>
+   * The default value is <code>0</code>, meaning all entries are passed to a
+   * single call.
+   *
+   * @return the maximum number of entries written by a single call
+   * @see #isWriteThrough()
+   */
+  int getWriterBatchSize();
+
+  /**
+   * Gets the {@link Factory} for the {@link javax.cache.expiry.ExpiryPolicy}
+   * of negative entries, which a read-through {@link javax.cache.Cache}
+   * creates for keys its {@link javax.cache.integration.CacheLoader} could not
+   * load, when negative caching is enabled.
+   * <p/>
+   * A negative entry records only that its key could not be loaded and holds
+   * no value.  Until it expires according to this
+   * {@link javax.cache.expiry.ExpiryPolicy}, read-through operations on its
+   * key behave as if the key was loaded and found not to exist, without
+   * calling the {@link javax.cache.integration.CacheLoader}.  Specifically,
+   * for each read-through operation:
+   * <ul>
+   * <li>{@link javax.cache.Cache#get(Object)} creates a negative entry when
+   * {@link javax.cache.integration.CacheLoader#load(Object)} returns
+   * <code>null</code>, and returns <code>null</code> for a key with a
+   * negative entry.</li>
+   * <li>{@link javax.cache.Cache#getAll(java.util.Set)} creates a negative
+   * entry for each key passed to
+   * {@link javax.cache.integration.CacheLoader#loadAll(Iterable)} that is
+   * absent from the returned map, or mapped to <code>null</code>.  Keys with
+   * negative entries are not passed to the
+   * {@link javax.cache.integration.CacheLoader} and are absent from the
+   * returned map.</li>
+   * <li>{@link javax.cache.Cache#invoke} creates a negative entry when the
+   * load performed on behalf of the
+   * {@link javax.cache.Cache.EntryProcessor} returns <code>null</code>.  For
+   * a key with a negative entry, the
+   * {@link javax.cache.Cache.MutableEntry} provided to the
+   * {@link javax.cache.Cache.EntryProcessor} doesn't
+   * {@link javax.cache.Cache.MutableEntry#exists()} and has a
+   * <code>null</code> value, and no load is performed.  Should the
+   * {@link javax.cache.Cache.EntryProcessor} set a value, the negative entry
+   * is replaced.</li>
+   * </ul>
+   * Each key of such an operation served by a negative entry is counted as a
+   * cache miss and by
+   * {@link javax.cache.management.CacheStatisticsMXBean#getCacheNegativeHits()},
+   * and each negative entry created is counted by
+   * {@link javax.cache.management.CacheStatisticsMXBean#getCacheNegativeMisses()}.
+   * <p/>
+   * Negative entries are
+   * otherwise invisible: they are not returned by iteration, don't cause
+   * {@link javax.cache.Cache#containsKey(Object)} to return <code>true</code>,
+   * are replaced by any mutation of their key and cause no events to be
+   * dispatched to {@link javax.cache.event.CacheEntryListener}s.  They are
+   * discarded by {@link javax.cache.Cache#loadAll(java.util.Set, boolean,
+   * javax.cache.integration.CompletionListener)} for their keys, and are never
+   * refreshed ahead of expiry, regardless of the
+   * {@link #getRefreshAheadFactor()}.
+   * <p/>
+   * Negative entries do occupy the {@link javax.cache.Cache}: each counts as
+   * one entry toward the {@link #getMaximumSize()}, or has a weight of one
+   * when a {@link Weigher} is configured, without the {@link Weigher} being
+   * called.  They may be evicted like any other entry, and such evictions are
+   * counted by
+   * {@link javax.cache.management.CacheStatisticsMXBean#getCacheEvictions()}.
+   * <p/>
+   * The {@link javax.cache.Cache.Entry}s provided to the
+   * {@link javax.cache.expiry.ExpiryPolicy} have a <code>null</code> value.
+   * <p/>
+   * It is an invalid configuration for a {@link javax.cache.Cache} that isn't
+   * read-through to specify this {@link Factory}, in which case
+   * {@link javax.cache.CacheManager#configureCache} throws an
+   * {@link IllegalArgumentException}.
+   * <p/>
+   * The default value is <code>null</code>, meaning negative caching is
+   * disabled.
+   *
+   * @return the {@link Factory} for the negative entry
+   *         {@link javax.cache.expiry.ExpiryPolicy} or null if negative
+   *         caching is disabled
+   * @see #isReadThrough()
+   * @see javax.cache.management.CacheStatisticsMXBean#getCacheNegativeHits()
+   */
+  Factory<ExpiryPolicy<? super K, ? super V>> getNegativeExpiryPolicyFactory();
+
+  /**
+   * Gets the maximum size of a {@link javax.cache.Cache}, beyond which entries
+   * will be evicted according to the {@link #getEvictionPolicy()}.
+   * <p/>
+   * When no {@link Weigher} is configured the size is the number of entries,
+   * otherwise it is the sum of the weights of the entries, as calculated by
+   * the {@link Weigher}.  Evictions are counted by
+   * {@link javax.cache.management.CacheStatisticsMXBean#getCacheEvictions()}.
+   * <p/>
+   * The default value is {@link Long#MAX_VALUE}, meaning the size of the
+   * {@link javax.cache.Cache} is not bounded.
+   *
+   * @return the maximum size of the {@link javax.cache.Cache}
+   */
+  long getMaximumSize();
+
+  /**
+   * Gets the {@link Factory} for the {@link Weigher} used to calculate the
+   * weight of entries, if any.
+   * <p/>
+   * The default value is <code>null</code>, meaning each entry has a weight of
+   * one.
+   *
+   * @return the {@link Factory} for the {@link Weigher} or null if none has
+   *         been set.
+   * @see #getMaximumSize()
+   */
+  Factory<Weigher<? super K, ? super V>> getWeigherFactory();
+
+  /**
+   * Gets the {@link EvictionPolicy} used to select the entries to evict when a
+   * {@link javax.cache.Cache} exceeds its {@link #getMaximumSize()}.
+   * <p/>
+   * The default value is {@link EvictionPolicy#DEFAULT}.
+   *
+   * @return the {@link EvictionPolicy}
+   */
+  EvictionPolicy getEvictionPolicy();
+
+  /**
+   * Gets the number of bytes of memory outside of the Java heap in which a
+   * store-by-value {@link javax.cache.Cache} stores its entries.
+   * <p/>
+   * As the entries of a store-by-value {@link javax.cache.Cache} are copied
+   * when they are stored, they may be stored in serialized form, using the
+   * configured {@link Serializer}s, outside of the Java heap, for example in
+   * direct {@link java.nio.ByteBuffer}s, such that they don't contribute to
+   * garbage collection pauses.  Implementations
+   * manage this memory themselves, for example using a slab allocator.  When
+   * the off-heap memory is exhausted entries are evicted according to the
+   * {@link #getEvictionPolicy()}.
+   * <p/>
+   * Off-heap storage is an optional feature, as indicated by
+   * {@link OptionalFeature#OFF_HEAP_STORE}.
+   * <p/>
+   * The default value is <code>0</code>, meaning entries are stored on the Java
+   * heap.
+   *
+   * @return the number of bytes of off-heap memory
+   * @see #isStoreByValue()
+   */
+  long getOffHeapSize();
+
+  /**
+   * Gets the {@link Factory} for the {@link Serializer} a store-by-value
+   * {@link javax.cache.Cache} uses to copy and store keys.
+   * <p/>
+   * The default value is <code>null</code>, meaning the implementation's
+   * default, typically Java serialization, is used.
+   *
+   * @return the {@link Factory} for the key {@link Serializer} or null if none
+   *         has been set.
+   * @see #isStoreByValue()
+   */
+  Factory<Serializer<K>> getKeySerializerFactory();
+
+  /**
+   * Gets the {@link Factory} for the {@link Serializer} a store-by-value
+   * {@link javax.cache.Cache} uses to copy and store values.
+   * <p/>
+   * The default value is <code>null</code>, meaning the implementation's
+   * default, typically Java serialization, is used.
+   *
+   * @return the {@link Factory} for the value {@link Serializer} or null if
+   *         none has been set.
+   * @see #isStoreByValue()
+   */
+  Factory<Serializer<V>> getValueSerializerFactory();
+
+  /**
+   * Gets the types whose instances are never mutated, and so are not copied
+   * when stored in or returned from a store-by-value {@link javax.cache.Cache}.
+   * <p/>
+   * The default value is {@link String} and the boxed primitive types.
+   *
+   * @return an {@link Iterable} over the immutable types
+   * @see #isStoreByValue()
+   */
+  Iterable<Class<?>> getImmutableTypes();
+
+  /**
+   * Gets the path of the directory in which a {@link javax.cache.Cache}
+   * persists its entries, such that they survive the {@link javax.cache.Cache}
+   * and its {@link javax.cache.CacheManager} being closed, or the JVM being
+   * restarted.
+   * <p/>
+   * Entries are written to the directory using the configured
+   * {@link Serializer}s, together with their expiry times.  Implementations
+   * typically use memory-mapped files holding an append-only log of mutations
+   * that is periodically compacted.
+   * <p/>
+   * When a {@link javax.cache.Cache} of the same name is next configured with
+   * the same persistence directory by a {@link javax.cache.CacheManager} with
+   * the same {@link javax.cache.CacheManager#getURI()}, its entries are
+   * recovered from the directory.  Recovered entries retain their original
+   * expiry times, entries that expired while the {@link javax.cache.Cache} was
+   * closed are discarded, and no {@link javax.cache.integration.CacheLoader}
+   * is called nor are any events dispatched to
+   * {@link javax.cache.event.CacheEntryListener}s.
+   * <p/>
+   * Persistence is an optional feature, as indicated by
+   * {@link OptionalFeature#PERSISTENCE}.
+   * <p/>
+   * The default value is <code>null</code>, meaning the
+   * {@link javax.cache.Cache} isn't persistent.
+   *
+   * @return the path of the persistence directory or null if the
+   *         {@link javax.cache.Cache} isn't persistent
+   */
+  String getPersistenceDirectory();
 }
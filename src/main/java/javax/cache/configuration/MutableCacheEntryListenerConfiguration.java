@@ -17,7 +17,9 @@
 package javax.cache.configuration;
 
 import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.CacheEntryKeyFilter;
 import javax.cache.event.CacheEntryListener;
+import javax.cache.expiry.Duration;
 import java.io.Serializable;
 
 /**
@@ -48,6 +50,12 @@ public class MutableCacheEntryListenerConfiguration<K, V>
    */
   private Factory<CacheEntryEventFilter<? super K, ? super V>> filterFactory;
 
+  /**
+   * The {@link Factory} to be used to create the {@link CacheEntryKeyFilter}.
+   * (may be null if no key filtering is required)
+   */
+  private Factory<CacheEntryKeyFilter<? super K>> keyFilterFactory;
+
   /**
    * Is the old value required to be provide to the {@link CacheEntryListener}?
    */
@@ -59,6 +67,28 @@ public class MutableCacheEntryListenerConfiguration<K, V>
    */
   private boolean isSynchronous;
 
+  /**
+   * The maximum number of events queued for an asynchronous
+   * {@link CacheEntryListener}.
+   */
+  private int dispatchQueueSize;
+
+  /**
+   * The maximum number of events delivered to an asynchronous
+   * {@link CacheEntryListener} in a single call.
+   */
+  private int dispatchBatchSize;
+
+  /**
+   * The maximum time an event waits for a batch to fill.
+   */
+  private Duration dispatchLinger;
+
+  /**
+   * Should queued update events for the same key be coalesced?
+   */
+  private boolean isCoalescing;
+
   /**
    * Constructs a {@link MutableCacheEntryListenerConfiguration} based on
    * another {@link CacheEntryListenerConfiguration}.
@@ -68,8 +98,13 @@ public class MutableCacheEntryListenerConfiguration<K, V>
   public MutableCacheEntryListenerConfiguration(CacheEntryListenerConfiguration<K, V> configuration) {
     this.listenerFactory = configuration.getCacheEntryListenerFactory();
     this.filterFactory = configuration.getCacheEntryEventFilterFactory();
+    this.keyFilterFactory = configuration.getCacheEntryKeyFilterFactory();
     this.isOldValueRequired = configuration.isOldValueRequired();
     this.isSynchronous = configuration.isSynchronous();
+    this.dispatchQueueSize = configuration.getDispatchQueueSize();
+    this.dispatchBatchSize = configuration.getDispatchBatchSize();
+    this.dispatchLinger = configuration.getDispatchLinger();
+    this.isCoalescing = configuration.isCoalescing();
   }
 
   /**
@@ -87,8 +122,13 @@ public class MutableCacheEntryListenerConfiguration<K, V>
                                                 boolean isSynchronous) {
     this.listenerFactory = (Factory<CacheEntryListener<? super K, ? super V>>) listenerFactory;
     this.filterFactory = (Factory<CacheEntryEventFilter<? super K, ? super V>>) filterFactory;
+    this.keyFilterFactory = null;
     this.isOldValueRequired = isOldValueRequired;
     this.isSynchronous = isSynchronous;
+    this.dispatchQueueSize = 1024;
+    this.dispatchBatchSize = 1;
+    this.dispatchLinger = Duration.ZERO;
+    this.isCoalescing = false;
   }
 
   /**
@@ -134,6 +174,28 @@ public class MutableCacheEntryListenerConfiguration<K, V>
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Factory<CacheEntryKeyFilter<? super K>> getCacheEntryKeyFilterFactory() {
+    return keyFilterFactory;
+  }
+
+  /**
+   * Sets the {@link Factory} to be used to create a {@link CacheEntryKeyFilter}.
+   *
+   * @param keyFilterFactory the {@link Factory}, or <code>null</code> if key
+   *                         filtering is not required
+   * @return the {@link MutableCacheEntryListenerConfiguration} to permit
+   *         fluent-style method calls
+   */
+  public MutableCacheEntryListenerConfiguration<K, V> setCacheEntryKeyFilterFactory(
+      Factory<? extends CacheEntryKeyFilter<? super K>> keyFilterFactory) {
+    this.keyFilterFactory = (Factory<CacheEntryKeyFilter<? super K>>) keyFilterFactory;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -178,6 +240,106 @@ public class MutableCacheEntryListenerConfiguration<K, V>
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getDispatchQueueSize() {
+    return dispatchQueueSize;
+  }
+
+  /**
+   * Sets the maximum number of events that may be queued for delivery to an
+   * asynchronous {@link CacheEntryListener}.
+   *
+   * @param dispatchQueueSize the maximum number of queued events
+   * @return the {@link MutableCacheEntryListenerConfiguration} to permit
+   *         fluent-style method calls
+   * @throws IllegalArgumentException if the size is less than one
+   */
+  public MutableCacheEntryListenerConfiguration<K, V> setDispatchQueueSize(
+      int dispatchQueueSize) {
+    if (dispatchQueueSize < 1) {
+      throw new IllegalArgumentException("The dispatchQueueSize must be at least 1");
+    }
+    this.dispatchQueueSize = dispatchQueueSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getDispatchBatchSize() {
+    return dispatchBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of events delivered to an asynchronous
+   * {@link CacheEntryListener} in a single call.
+   *
+   * @param dispatchBatchSize the maximum number of events in a batch
+   * @return the {@link MutableCacheEntryListenerConfiguration} to permit
+   *         fluent-style method calls
+   * @throws IllegalArgumentException if the size is less than one
+   */
+  public MutableCacheEntryListenerConfiguration<K, V> setDispatchBatchSize(
+      int dispatchBatchSize) {
+    if (dispatchBatchSize < 1) {
+      throw new IllegalArgumentException("The dispatchBatchSize must be at least 1");
+    }
+    this.dispatchBatchSize = dispatchBatchSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Duration getDispatchLinger() {
+    return dispatchLinger;
+  }
+
+  /**
+   * Sets the maximum time an event waits for a batch to fill before being
+   * delivered to an asynchronous {@link CacheEntryListener}.
+   *
+   * @param dispatchLinger the linger time of a batch
+   * @return the {@link MutableCacheEntryListenerConfiguration} to permit
+   *         fluent-style method calls
+   * @throws NullPointerException if the linger time is null
+   */
+  public MutableCacheEntryListenerConfiguration<K, V> setDispatchLinger(
+      Duration dispatchLinger) {
+    if (dispatchLinger == null) {
+      throw new NullPointerException("The dispatchLinger can't be null");
+    }
+    this.dispatchLinger = dispatchLinger;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isCoalescing() {
+    return isCoalescing;
+  }
+
+  /**
+   * Sets if update events for the same key that are queued for an
+   * asynchronous {@link CacheEntryListener} should be coalesced, such that
+   * only the latest value is delivered.
+   *
+   * @param isCoalescing <code>true</code> to coalesce queued update events
+   * @return the {@link MutableCacheEntryListenerConfiguration} to permit
+   *         fluent-style method calls
+   */
+  public MutableCacheEntryListenerConfiguration<K, V> setCoalescing(
+      boolean isCoalescing) {
+    this.isCoalescing = isCoalescing;
+    return this;
+  }
 
   /**
    * {@inheritDoc}
@@ -187,10 +349,15 @@ public class MutableCacheEntryListenerConfiguration<K, V>
     final int prime = 31;
     int result = 1;
     result = prime * result + ((filterFactory == null) ? 0 : filterFactory.hashCode());
+    result = prime * result + ((keyFilterFactory == null) ? 0 : keyFilterFactory.hashCode());
     result = prime * result + (isOldValueRequired ? 1231 : 1237);
     result = prime * result + (isSynchronous ? 1231 : 1237);
     result = prime * result
         + ((listenerFactory == null) ? 0 : listenerFactory.hashCode());
+    result = prime * result + dispatchQueueSize;
+    result = prime * result + dispatchBatchSize;
+    result = prime * result + ((dispatchLinger == null) ? 0 : dispatchLinger.hashCode());
+    result = prime * result + (isCoalescing ? 1231 : 1237);
     return result;
   }
 
@@ -209,6 +376,30 @@ public class MutableCacheEntryListenerConfiguration<K, V>
       return false;
     }
     MutableCacheEntryListenerConfiguration<?, ?> other = (MutableCacheEntryListenerConfiguration<?, ?>) object;
+    if (isOldValueRequired != other.isOldValueRequired) {
+      return false;
+    }
+    if (isSynchronous != other.isSynchronous) {
+      return false;
+    }
+    if (listenerFactory == null) {
+      if (other.listenerFactory != null) {
+        return false;
+      }
+    } else if (!listenerFactory.equals(other.listenerFactory)) {
+      return false;
+    }
+    return isFilteringEqual(other) && isDispatchEqual(other);
+  }
+
+  /**
+   * Determines if the filters of another configuration are equal to those of
+   * this configuration.
+   *
+   * @param other the other configuration
+   * @return true if the filter factories are equal
+   */
+  private boolean isFilteringEqual(MutableCacheEntryListenerConfiguration<?, ?> other) {
     if (filterFactory == null) {
       if (other.filterFactory != null) {
         return false;
@@ -216,19 +407,37 @@ public class MutableCacheEntryListenerConfiguration<K, V>
     } else if (!filterFactory.equals(other.filterFactory)) {
       return false;
     }
-    if (isOldValueRequired != other.isOldValueRequired) {
+    if (keyFilterFactory == null) {
+      if (other.keyFilterFactory != null) {
+        return false;
+      }
+    } else if (!keyFilterFactory.equals(other.keyFilterFactory)) {
       return false;
     }
-    if (isSynchronous != other.isSynchronous) {
+    return true;
+  }
+
+  /**
+   * Determines if the dispatch settings of another configuration are equal to
+   * those of this configuration.
+   *
+   * @param other the other configuration
+   * @return true if the dispatch settings are equal
+   */
+  private boolean isDispatchEqual(MutableCacheEntryListenerConfiguration<?, ?> other) {
+    if (dispatchQueueSize != other.dispatchQueueSize) {
       return false;
     }
-    if (listenerFactory == null) {
-      if (other.listenerFactory != null) {
+    if (dispatchBatchSize != other.dispatchBatchSize) {
+      return false;
+    }
+    if (dispatchLinger == null) {
+      if (other.dispatchLinger != null) {
         return false;
       }
-    } else if (!listenerFactory.equals(other.listenerFactory)) {
+    } else if (!dispatchLinger.equals(other.dispatchLinger)) {
       return false;
     }
-    return true;
+    return isCoalescing == other.isCoalescing;
   }
 }
@@ -17,13 +17,18 @@
 
 package javax.cache.configuration;
 
+import javax.cache.eviction.EvictionPolicy;
+import javax.cache.eviction.Weigher;
 import javax.cache.expiry.EternalExpiryPolicy;
 import javax.cache.expiry.ExpiryPolicy;
 import javax.cache.integration.CacheLoader;
 import javax.cache.integration.CacheWriter;
+import javax.cache.spi.Serializer;
 import javax.cache.transaction.IsolationLevel;
 import javax.cache.transaction.Mode;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 
 /**
  * A simple mutable implementation of a {@link Configuration}.
@@ -114,6 +119,78 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
    */
   protected boolean isManagementEnabled;
 
+  /**
+   * The maximum size of the cache, in entries or by weight.
+   */
+  protected long maximumSize;
+
+  /**
+   * The {@link Factory} for the {@link Weigher}.
+   */
+  protected Factory<Weigher<? super K, ? super V>> weigherFactory;
+
+  /**
+   * The {@link EvictionPolicy}.
+   */
+  protected EvictionPolicy evictionPolicy;
+
+  /**
+   * The {@link WriteBehindConfiguration}, if write-behind is required.
+   */
+  protected WriteBehindConfiguration writeBehindConfiguration;
+
+  /**
+   * The fraction of the expiry duration, at the end, during which accessed
+   * entries are refreshed ahead of expiry.
+   */
+  protected float refreshAheadFactor;
+
+  /**
+   * The number of bytes of off-heap memory in which to store entries.
+   */
+  protected long offHeapSize;
+
+  /**
+   * The {@link Factory} for the {@link Serializer} of keys.
+   */
+  protected Factory<Serializer<K>> keySerializerFactory;
+
+  /**
+   * The {@link Factory} for the {@link Serializer} of values.
+   */
+  protected Factory<Serializer<V>> valueSerializerFactory;
+
+  /**
+   * The types whose instances are never mutated and so need not be copied.
+   */
+  protected HashSet<Class<?>> immutableTypes;
+
+  /**
+   * The directory in which entries are persisted, or null if not persistent.
+   */
+  protected String persistenceDirectory;
+
+  /**
+   * The maximum number of keys passed to a single CacheLoader.loadAll call.
+   */
+  protected int loaderBatchSize;
+
+  /**
+   * The maximum number of concurrent CacheLoader.loadAll calls made by a loadAll.
+   */
+  protected int loaderParallelism;
+
+  /**
+   * The maximum number of entries passed to a single CacheWriter batch call.
+   */
+  protected int writerBatchSize;
+
+  /**
+   * The {@link Factory} for the {@link ExpiryPolicy} of negative entries,
+   * or null if negative caching is disabled.
+   */
+  protected Factory<ExpiryPolicy<? super K, ? super V>> negativeExpiryPolicyFactory;
+
   /**
    * Constructs a default {@link MutableConfiguration}.
    */
@@ -133,6 +210,8 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
     this.isTransactionsEnabled = false;
     this.txnIsolationLevel = IsolationLevel.NONE;
     this.txnMode = Mode.NONE;
+    initializeStorage();
+    initializeIntegration();
   }
 
   /**
@@ -174,6 +253,75 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
     this.isTransactionsEnabled = configuration.isTransactionsEnabled();
     this.txnIsolationLevel = configuration.getTransactionIsolationLevel();
     this.txnMode = configuration.getTransactionMode();
+
+    copyStorage(configuration);
+    copyIntegration(configuration);
+  }
+
+  /**
+   * Initializes the storage properties, being the size bounds, eviction,
+   * serialization and persistence, to their defaults.
+   */
+  private void initializeStorage() {
+    this.maximumSize = Long.MAX_VALUE;
+    this.weigherFactory = null;
+    this.evictionPolicy = EvictionPolicy.DEFAULT;
+    this.offHeapSize = 0;
+    this.keySerializerFactory = null;
+    this.valueSerializerFactory = null;
+    this.immutableTypes = new HashSet<Class<?>>();
+    Collections.addAll(this.immutableTypes, String.class, Boolean.class,
+        Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class);
+    this.persistenceDirectory = null;
+  }
+
+  /**
+   * Initializes the properties of the integration with the
+   * {@link CacheLoader} and {@link CacheWriter} to their defaults.
+   */
+  private void initializeIntegration() {
+    this.writeBehindConfiguration = null;
+    this.refreshAheadFactor = 0.0f;
+    this.loaderBatchSize = 0;
+    this.loaderParallelism = 1;
+    this.writerBatchSize = 0;
+    this.negativeExpiryPolicyFactory = null;
+  }
+
+  /**
+   * Copies the storage properties, being the size bounds, eviction,
+   * serialization and persistence, from another {@link Configuration}.
+   *
+   * @param configuration the {@link Configuration}
+   */
+  private void copyStorage(Configuration<K, V> configuration) {
+    this.maximumSize = configuration.getMaximumSize();
+    this.weigherFactory = configuration.getWeigherFactory();
+    this.evictionPolicy = configuration.getEvictionPolicy();
+    this.offHeapSize = configuration.getOffHeapSize();
+    this.keySerializerFactory = configuration.getKeySerializerFactory();
+    this.valueSerializerFactory = configuration.getValueSerializerFactory();
+    this.immutableTypes = new HashSet<Class<?>>();
+    for (Class<?> type : configuration.getImmutableTypes()) {
+      addImmutableType(type);
+    }
+    this.persistenceDirectory = configuration.getPersistenceDirectory();
+  }
+
+  /**
+   * Copies the properties of the integration with the {@link CacheLoader}
+   * and {@link CacheWriter} from another {@link Configuration}.
+   *
+   * @param configuration the {@link Configuration}
+   */
+  private void copyIntegration(Configuration<K, V> configuration) {
+    this.writeBehindConfiguration = configuration.getWriteBehindConfiguration();
+    this.refreshAheadFactor = configuration.getRefreshAheadFactor();
+    this.loaderBatchSize = configuration.getLoaderBatchSize();
+    this.loaderParallelism = configuration.getLoaderParallelism();
+    this.writerBatchSize = configuration.getWriterBatchSize();
+    this.negativeExpiryPolicyFactory = configuration.getNegativeExpiryPolicyFactory();
   }
 
   /**
@@ -462,6 +610,338 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
     return this.isTransactionsEnabled;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getMaximumSize() {
+    return this.maximumSize;
+  }
+
+  /**
+   * Sets the maximum size of a cache, in entries or, when a {@link Weigher} is
+   * configured, by weight.
+   *
+   * @param maximumSize the maximum size, or {@link Long#MAX_VALUE} for an
+   *                    unbounded cache
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the maximum size is negative
+   */
+  public MutableConfiguration<K, V> setMaximumSize(long maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("The maximumSize can't be negative");
+    }
+    this.maximumSize = maximumSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Factory<Weigher<? super K, ? super V>> getWeigherFactory() {
+    return this.weigherFactory;
+  }
+
+  /**
+   * Set the {@link Weigher} factory, in which case the maximum size of a cache
+   * is measured by weight instead of by the number of entries.
+   *
+   * @param factory the {@link Weigher} {@link Factory} (may be null)
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setWeigherFactory(Factory<? extends
+      Weigher<? super K, ? super V>> factory) {
+    this.weigherFactory = (Factory<Weigher<? super K, ? super V>>) factory;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public EvictionPolicy getEvictionPolicy() {
+    return this.evictionPolicy;
+  }
+
+  /**
+   * Set the {@link EvictionPolicy} for a size bounded cache.  If
+   * <code>null</code> is specified {@link EvictionPolicy#DEFAULT} is used.
+   *
+   * @param evictionPolicy the {@link EvictionPolicy}
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = evictionPolicy == null ? EvictionPolicy.DEFAULT : evictionPolicy;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public WriteBehindConfiguration getWriteBehindConfiguration() {
+    return this.writeBehindConfiguration;
+  }
+
+  /**
+   * Set the {@link WriteBehindConfiguration} for a write-through cache, in
+   * which case writes to the {@link CacheWriter} are queued and performed
+   * asynchronously in batches.  If <code>null</code> is specified writes are
+   * performed synchronously.
+   *
+   * @param configuration the {@link WriteBehindConfiguration} (may be null)
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setWriteBehindConfiguration(WriteBehindConfiguration configuration) {
+    this.writeBehindConfiguration = configuration;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public float getRefreshAheadFactor() {
+    return this.refreshAheadFactor;
+  }
+
+  /**
+   * Set the fraction of the expiry duration of an entry, at the end of which
+   * accessing the entry causes it to be refreshed from the {@link CacheLoader}
+   * asynchronously.  For example, a factor of <code>0.2</code> refreshes
+   * entries accessed during the final 20% of their expiry duration.
+   * <p/>
+   * It is an invalid configuration to set this to greater than zero without
+   * enabling read-through.
+   *
+   * @param refreshAheadFactor the refresh-ahead factor, or <code>0</code> to
+   *                           disable refresh-ahead
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the factor is not between 0 and 1
+   */
+  public MutableConfiguration<K, V> setRefreshAheadFactor(float refreshAheadFactor) {
+    if (!(refreshAheadFactor >= 0.0f && refreshAheadFactor <= 1.0f)) {
+      throw new IllegalArgumentException("The refreshAheadFactor must be between 0 and 1");
+    }
+    this.refreshAheadFactor = refreshAheadFactor;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getOffHeapSize() {
+    return this.offHeapSize;
+  }
+
+  /**
+   * Set the number of bytes of memory outside of the Java heap in which a
+   * cache stores its entries.
+   * <p/>
+   * It is an invalid configuration to set this to greater than zero for a
+   * store-by-reference cache.
+   *
+   * @param offHeapSize the number of bytes, or <code>0</code> to store entries
+   *                    on the Java heap
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public MutableConfiguration<K, V> setOffHeapSize(long offHeapSize) {
+    if (offHeapSize < 0) {
+      throw new IllegalArgumentException("The offHeapSize can't be negative");
+    }
+    this.offHeapSize = offHeapSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Factory<Serializer<K>> getKeySerializerFactory() {
+    return this.keySerializerFactory;
+  }
+
+  /**
+   * Set the {@link Serializer} factory for keys.
+   *
+   * @param factory the {@link Serializer} {@link Factory} (may be null)
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setKeySerializerFactory(Factory<? extends Serializer<K>> factory) {
+    this.keySerializerFactory = (Factory<Serializer<K>>) factory;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Factory<Serializer<V>> getValueSerializerFactory() {
+    return this.valueSerializerFactory;
+  }
+
+  /**
+   * Set the {@link Serializer} factory for values.
+   *
+   * @param factory the {@link Serializer} {@link Factory} (may be null)
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setValueSerializerFactory(Factory<? extends Serializer<V>> factory) {
+    this.valueSerializerFactory = (Factory<Serializer<V>>) factory;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<Class<?>> getImmutableTypes() {
+    return immutableTypes;
+  }
+
+  /**
+   * Registers a type whose instances are never mutated, so that a
+   * store-by-value cache need not copy them.
+   * <p/>
+   * Only register final classes whose state can't change after construction.
+   *
+   * @param type the immutable type
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws NullPointerException if the type is null
+   */
+  public MutableConfiguration<K, V> addImmutableType(Class<?> type) {
+    if (type == null) {
+      throw new NullPointerException("Immutable type can't be null");
+    }
+    this.immutableTypes.add(type);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getPersistenceDirectory() {
+    return this.persistenceDirectory;
+  }
+
+  /**
+   * Set the directory in which a cache persists its entries so that they
+   * survive a restart.
+   *
+   * @param persistenceDirectory the path of the directory, or null if the
+   *                             cache is not persistent
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setPersistenceDirectory(String persistenceDirectory) {
+    this.persistenceDirectory = persistenceDirectory;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getLoaderBatchSize() {
+    return this.loaderBatchSize;
+  }
+
+  /**
+   * Set the maximum number of keys passed to a single call of
+   * {@link CacheLoader#loadAll(Iterable)}.
+   *
+   * @param loaderBatchSize the maximum number of keys, or <code>0</code> for
+   *                        no maximum
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public MutableConfiguration<K, V> setLoaderBatchSize(int loaderBatchSize) {
+    if (loaderBatchSize < 0) {
+      throw new IllegalArgumentException("The loaderBatchSize can't be negative");
+    }
+    this.loaderBatchSize = loaderBatchSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getLoaderParallelism() {
+    return this.loaderParallelism;
+  }
+
+  /**
+   * Set the maximum number of batches of keys a single
+   * {@link javax.cache.Cache#loadAll(java.util.Set, boolean,
+   * javax.cache.integration.CompletionListener)} loads concurrently.
+   *
+   * @param loaderParallelism the maximum number of concurrent batches
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the parallelism is less than one
+   */
+  public MutableConfiguration<K, V> setLoaderParallelism(int loaderParallelism) {
+    if (loaderParallelism < 1) {
+      throw new IllegalArgumentException("The loaderParallelism must be at least 1");
+    }
+    this.loaderParallelism = loaderParallelism;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getWriterBatchSize() {
+    return this.writerBatchSize;
+  }
+
+  /**
+   * Set the maximum number of entries or keys passed to a single call of
+   * {@link CacheWriter#writeAll(java.util.Collection)} or
+   * {@link CacheWriter#deleteAll(java.util.Collection)}.
+   *
+   * @param writerBatchSize the maximum number of entries, or <code>0</code> for
+   *                        no maximum
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public MutableConfiguration<K, V> setWriterBatchSize(int writerBatchSize) {
+    if (writerBatchSize < 0) {
+      throw new IllegalArgumentException("The writerBatchSize can't be negative");
+    }
+    this.writerBatchSize = writerBatchSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Factory<ExpiryPolicy<? super K, ? super V>> getNegativeExpiryPolicyFactory() {
+    return this.negativeExpiryPolicyFactory;
+  }
+
+  /**
+   * Set the {@link Factory} for the {@link ExpiryPolicy} of the negative
+   * entries a read-through cache creates when its {@link CacheLoader} can't
+   * load a key, thereby enabling negative caching.
+   * <p/>
+   * It is an invalid configuration to set this without enabling read-through.
+   *
+   * @param factory the {@link ExpiryPolicy} {@link Factory}, or null to
+   *                disable negative caching
+   * @return the {@link MutableConfiguration} to permit fluent-style method calls
+   */
+  public MutableConfiguration<K, V> setNegativeExpiryPolicyFactory(Factory<? extends
+      ExpiryPolicy<? super K, ? super V>> factory) {
+    this.negativeExpiryPolicyFactory = (Factory<ExpiryPolicy<? super K, ? super V>>) factory;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -490,6 +970,28 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
         + ((txnIsolationLevel == null) ? 0 : txnIsolationLevel
         .hashCode());
     result = prime * result + ((txnMode == null) ? 0 : txnMode.hashCode());
+    result = prime * result + (int) (maximumSize ^ (maximumSize >>> 32));
+    result = prime * result
+        + ((weigherFactory == null) ? 0 : weigherFactory.hashCode());
+    result = prime * result
+        + ((evictionPolicy == null) ? 0 : evictionPolicy.hashCode());
+    result = prime * result
+        + ((writeBehindConfiguration == null) ? 0 : writeBehindConfiguration.hashCode());
+    result = prime * result + Float.floatToIntBits(refreshAheadFactor);
+    result = prime * result + (int) (offHeapSize ^ (offHeapSize >>> 32));
+    result = prime * result
+        + ((keySerializerFactory == null) ? 0 : keySerializerFactory.hashCode());
+    result = prime * result
+        + ((valueSerializerFactory == null) ? 0 : valueSerializerFactory.hashCode());
+    result = prime * result
+        + ((immutableTypes == null) ? 0 : immutableTypes.hashCode());
+    result = prime * result
+        + ((persistenceDirectory == null) ? 0 : persistenceDirectory.hashCode());
+    result = prime * result + loaderBatchSize;
+    result = prime * result + loaderParallelism;
+    result = prime * result + writerBatchSize;
+    result = prime * result
+        + ((negativeExpiryPolicyFactory == null) ? 0 : negativeExpiryPolicyFactory.hashCode());
     return result;
   }
 
@@ -571,6 +1073,76 @@ public class MutableConfiguration<K, V> implements Configuration<K, V> {
     if (txnMode != other.txnMode) {
       return false;
     }
+    if (maximumSize != other.maximumSize) {
+      return false;
+    }
+    if (weigherFactory == null) {
+      if (other.weigherFactory != null) {
+        return false;
+      }
+    } else if (!weigherFactory.equals(other.weigherFactory)) {
+      return false;
+    }
+    if (evictionPolicy != other.evictionPolicy) {
+      return false;
+    }
+    if (writeBehindConfiguration == null) {
+      if (other.writeBehindConfiguration != null) {
+        return false;
+      }
+    } else if (!writeBehindConfiguration.equals(other.writeBehindConfiguration)) {
+      return false;
+    }
+    if (Float.floatToIntBits(refreshAheadFactor) != Float.floatToIntBits(other.refreshAheadFactor)) {
+      return false;
+    }
+    if (offHeapSize != other.offHeapSize) {
+      return false;
+    }
+    if (keySerializerFactory == null) {
+      if (other.keySerializerFactory != null) {
+        return false;
+      }
+    } else if (!keySerializerFactory.equals(other.keySerializerFactory)) {
+      return false;
+    }
+    if (valueSerializerFactory == null) {
+      if (other.valueSerializerFactory != null) {
+        return false;
+      }
+    } else if (!valueSerializerFactory.equals(other.valueSerializerFactory)) {
+      return false;
+    }
+    if (immutableTypes == null) {
+      if (other.immutableTypes != null) {
+        return false;
+      }
+    } else if (!immutableTypes.equals(other.immutableTypes)) {
+      return false;
+    }
+    if (persistenceDirectory == null) {
+      if (other.persistenceDirectory != null) {
+        return false;
+      }
+    } else if (!persistenceDirectory.equals(other.persistenceDirectory)) {
+      return false;
+    }
+    if (loaderBatchSize != other.loaderBatchSize) {
+      return false;
+    }
+    if (loaderParallelism != other.loaderParallelism) {
+      return false;
+    }
+    if (writerBatchSize != other.writerBatchSize) {
+      return false;
+    }
+    if (negativeExpiryPolicyFactory == null) {
+      if (other.negativeExpiryPolicyFactory != null) {
+        return false;
+      }
+    } else if (!negativeExpiryPolicyFactory.equals(other.negativeExpiryPolicyFactory)) {
+      return false;
+    }
     return true;
   }
 }
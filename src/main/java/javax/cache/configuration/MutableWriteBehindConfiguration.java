@@ -0,0 +1,232 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.configuration;
+
+import javax.cache.expiry.Duration;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A convenience class providing a mutable, serializable implementation of a
+ * {@link WriteBehindConfiguration}.
+ *
+ * @since 1.0
+ */
+public class MutableWriteBehindConfiguration implements WriteBehindConfiguration, Serializable {
+
+  /**
+   * The serialVersionUID required for {@link java.io.Serializable}.
+   */
+  public static final long serialVersionUID = 201310160905L;
+
+  /**
+   * The maximum number of queued keys.
+   */
+  private int maximumQueueSize;
+
+  /**
+   * The maximum number of keys per batch.
+   */
+  private int maximumBatchSize;
+
+  /**
+   * The maximum time a key remains queued.
+   */
+  private Duration flushInterval;
+
+  /**
+   * The number of times a failed write or delete is retried.
+   */
+  private int maximumRetries;
+
+  /**
+   * Constructs a default {@link MutableWriteBehindConfiguration}, that queues
+   * up to 10000 keys, writes batches of up to 100 keys at least every second
+   * and retries failed writes three times.
+   */
+  public MutableWriteBehindConfiguration() {
+    this.maximumQueueSize = 10000;
+    this.maximumBatchSize = 100;
+    this.flushInterval = new Duration(TimeUnit.SECONDS, 1);
+    this.maximumRetries = 3;
+  }
+
+  /**
+   * Constructs a {@link MutableWriteBehindConfiguration} based on another
+   * {@link WriteBehindConfiguration}.
+   *
+   * @param configuration the {@link WriteBehindConfiguration}
+   */
+  public MutableWriteBehindConfiguration(WriteBehindConfiguration configuration) {
+    this.maximumQueueSize = configuration.getMaximumQueueSize();
+    this.maximumBatchSize = configuration.getMaximumBatchSize();
+    this.flushInterval = configuration.getFlushInterval();
+    this.maximumRetries = configuration.getMaximumRetries();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getMaximumQueueSize() {
+    return maximumQueueSize;
+  }
+
+  /**
+   * Sets the maximum number of keys that may be queued for writing.
+   *
+   * @param maximumQueueSize the maximum number of queued keys
+   * @return the {@link MutableWriteBehindConfiguration} to permit fluent-style
+   *         method calls
+   * @throws IllegalArgumentException if the maximum queue size is not positive
+   */
+  public MutableWriteBehindConfiguration setMaximumQueueSize(int maximumQueueSize) {
+    if (maximumQueueSize <= 0) {
+      throw new IllegalArgumentException("The maximumQueueSize must be positive");
+    }
+    this.maximumQueueSize = maximumQueueSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getMaximumBatchSize() {
+    return maximumBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of keys written or deleted in a batch.
+   *
+   * @param maximumBatchSize the maximum batch size
+   * @return the {@link MutableWriteBehindConfiguration} to permit fluent-style
+   *         method calls
+   * @throws IllegalArgumentException if the maximum batch size is not positive
+   */
+  public MutableWriteBehindConfiguration setMaximumBatchSize(int maximumBatchSize) {
+    if (maximumBatchSize <= 0) {
+      throw new IllegalArgumentException("The maximumBatchSize must be positive");
+    }
+    this.maximumBatchSize = maximumBatchSize;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  /**
+   * Sets the maximum time that a key remains queued before it is written.
+   *
+   * @param flushInterval the flush interval
+   * @return the {@link MutableWriteBehindConfiguration} to permit fluent-style
+   *         method calls
+   * @throws NullPointerException if the flush interval is null
+   */
+  public MutableWriteBehindConfiguration setFlushInterval(Duration flushInterval) {
+    if (flushInterval == null) {
+      throw new NullPointerException("The flushInterval can't be null");
+    }
+    this.flushInterval = flushInterval;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getMaximumRetries() {
+    return maximumRetries;
+  }
+
+  /**
+   * Sets the number of times a failed write or delete is retried, in
+   * addition to its first attempt.
+   *
+   * @param maximumRetries the maximum number of retries
+   * @return the {@link MutableWriteBehindConfiguration} to permit fluent-style
+   *         method calls
+   * @throws IllegalArgumentException if the maximum retries is negative
+   */
+  public MutableWriteBehindConfiguration setMaximumRetries(int maximumRetries) {
+    if (maximumRetries < 0) {
+      throw new IllegalArgumentException("The maximumRetries can't be negative");
+    }
+    this.maximumRetries = maximumRetries;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + maximumQueueSize;
+    result = prime * result + maximumBatchSize;
+    result = prime * result + ((flushInterval == null) ? 0 : flushInterval.hashCode());
+    result = prime * result + maximumRetries;
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (object == null) {
+      return false;
+    }
+    if (!(object instanceof MutableWriteBehindConfiguration)) {
+      return false;
+    }
+    MutableWriteBehindConfiguration other = (MutableWriteBehindConfiguration) object;
+    return isQueueingEqual(other) && isFlushingEqual(other);
+  }
+
+  /**
+   * Determines if the queue and batch sizes of another configuration are
+   * equal to those of this configuration.
+   *
+   * @param other the other configuration
+   * @return true if the queue and batch sizes are equal
+   */
+  private boolean isQueueingEqual(MutableWriteBehindConfiguration other) {
+    if (maximumQueueSize != other.maximumQueueSize) {
+      return false;
+    }
+    return maximumBatchSize == other.maximumBatchSize;
+  }
+
+  /**
+   * Determines if the flush interval and retries of another configuration are
+   * equal to those of this configuration.
+   *
+   * @param other the other configuration
+   * @return true if the flush interval and retries are equal
+   */
+  private boolean isFlushingEqual(MutableWriteBehindConfiguration other) {
+    if (flushInterval == null) {
+      if (other.flushInterval != null) {
+        return false;
+      }
+    } else if (!flushInterval.equals(other.flushInterval)) {
+      return false;
+    }
+    return maximumRetries == other.maximumRetries;
+  }
+}
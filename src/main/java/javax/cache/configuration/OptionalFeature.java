@@ -23,5 +23,15 @@ public enum OptionalFeature {
   /**
    * Implementation supports store by reference
    */
-  STORE_BY_REFERENCE
+  STORE_BY_REFERENCE,
+
+  /**
+   * Implementation supports storing entries outside of the Java heap
+   */
+  OFF_HEAP_STORE,
+
+  /**
+   * Implementation supports persisting entries so they survive a restart
+   */
+  PERSISTENCE
 }
@@ -0,0 +1,80 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.configuration;
+
+import javax.cache.expiry.Duration;
+
+/**
+ * Defines the configuration requirements for writing behind to a
+ * {@link javax.cache.integration.CacheWriter}.
+ * <p/>
+ * When a write-through {@link javax.cache.Cache} is configured to write-behind,
+ * cache mutations are applied to the {@link javax.cache.Cache} immediately and
+ * are queued for writing to the {@link javax.cache.integration.CacheWriter}
+ * asynchronously, so that the latency of the external resource is not incurred
+ * by cache operations.
+ * <p/>
+ * Writes are coalesced while queued, such that only the latest write or delete
+ * for a key is performed.  Queued writes and deletes are flushed in batches
+ * using {@link javax.cache.integration.CacheWriter#writeAll(java.util.Collection)}
+ * and {@link javax.cache.integration.CacheWriter#deleteAll(java.util.Collection)},
+ * once either {@link #getMaximumBatchSize()} keys are queued or a key has been
+ * queued for the {@link #getFlushInterval()}.
+ * <p/>
+ * Should the queue contain {@link #getMaximumQueueSize()} keys, threads
+ * mutating the {@link javax.cache.Cache} block until the queue has space
+ * for their keys.
+ * <p/>
+ * Entries that a batch failed to write or delete, being those that remain in
+ * the collection passed to the {@link javax.cache.integration.CacheWriter},
+ * are queued again unless a later write or delete for the key has since been
+ * queued.  An entry is retried at most {@link #getMaximumRetries()} times,
+ * so is attempted at most {@link #getMaximumRetries()} + 1 times, after which
+ * it is discarded.
+ * <p/>
+ * Closing the {@link javax.cache.Cache} flushes the queue.
+ *
+ * @see Configuration#getWriteBehindConfiguration()
+ * @since 1.0
+ */
+public interface WriteBehindConfiguration {
+
+  /**
+   * Obtains the maximum number of keys that may be queued for writing, after
+   * which mutating the {@link javax.cache.Cache} blocks.
+   *
+   * @return the maximum number of queued keys
+   */
+  int getMaximumQueueSize();
+
+  /**
+   * Obtains the maximum number of keys written or deleted by a single call to
+   * the {@link javax.cache.integration.CacheWriter}.
+   *
+   * @return the maximum batch size
+   */
+  int getMaximumBatchSize();
+
+  /**
+   * Obtains the maximum time that a key remains queued before it is written.
+   *
+   * @return the flush interval
+   */
+  Duration getFlushInterval();
+
+  /**
+   * Obtains the number of times the write or delete of a key is retried,
+   * should it fail, before it is discarded.
+   * <p/>
+   * The first attempt is not a retry, so a value of <code>0</code> means a
+   * failed write or delete is discarded after its first attempt.
+   *
+   * @return the maximum number of retries
+   */
+  int getMaximumRetries();
+}
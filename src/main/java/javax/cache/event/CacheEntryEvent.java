@@ -8,10 +8,19 @@
 package javax.cache.event;
 
 import javax.cache.Cache;
+import java.nio.ByteBuffer;
 import java.util.EventObject;
 
 /**
  * A Cache entry event base class.
+ * <p/>
+ * Events of a store-by-value {@link Cache} may carry their values in the
+ * serialized form in which the {@link Cache} stores them, deserializing them
+ * using the configured {@link javax.cache.spi.Serializer} only when first
+ * requested through {@link #getValue()} or {@link #getOldValue()}, so that
+ * listeners that don't read values don't pay for their deserialization.  The
+ * serialized forms may also be read directly, without creating any objects,
+ * through {@link #getValueAsBuffer()} and {@link #getOldValueAsBuffer()}.
  *
  * @param <K> the type of key
  * @param <V> the type of value
@@ -57,6 +66,52 @@ public abstract class CacheEntryEvent<K, V> extends EventObject
    */
   public abstract boolean isOldValueAvailable();
 
+  /**
+   * Returns the value of the Entry in the serialized form produced by the
+   * configured value {@link javax.cache.spi.Serializer}.
+   * <p/>
+   * The bytes between the position and the limit of the returned buffer are
+   * exactly those of the serialized value, so that
+   * {@link ByteBuffer#remaining()} is the length of the serialized value.
+   * <p/>
+   * Implementations may return the same buffer from each call, and to each
+   * listener provided with this event, so that no buffer need be allocated per
+   * call.  Listeners must therefore not change the position, limit or mark of
+   * the returned buffer.  Instead they should read it using absolute
+   * <code>get</code> methods, or consume a {@link ByteBuffer#duplicate()} of it.
+   * <p/>
+   * The returned buffer is read-only and is only valid for the duration of
+   * the call to the {@link CacheEntryListener} or
+   * {@link CacheEntryEventFilter} to which this event was provided.  Its
+   * content must be copied if it is required afterwards.
+   * <p/>
+   * This implementation returns <code>null</code>.
+   *
+   * @return a buffer whose remaining bytes are the serialized value or
+   *         <code>null</code> if the value isn't available in serialized form
+   */
+  public ByteBuffer getValueAsBuffer() {
+    return null;
+  }
+
+  /**
+   * Returns the previous value in the serialized form produced by the
+   * configured value {@link javax.cache.spi.Serializer}.
+   * <p/>
+   * The returned buffer has the same restrictions as those returned by
+   * {@link #getValueAsBuffer()}.
+   * <p/>
+   * This implementation returns <code>null</code>.
+   *
+   * @return a buffer whose remaining bytes are the serialized previous value
+   *         or <code>null</code> if there was no previous value, it isn't
+   *         {@link #isOldValueAvailable()} or it isn't available in
+   *         serialized form
+   */
+  public ByteBuffer getOldValueAsBuffer() {
+    return null;
+  }
+
   /**
    * Gets the event type of this event
    *
@@ -10,6 +10,10 @@ package javax.cache.event;
 
 /**
  * Invoked if a cache entry or entries are evicted due to expiration.
+ * <p/>
+ * As entries that expire at around the same time are typically detected
+ * together, implementations should notify them as a single batch of events
+ * rather than calling {@link #onExpired(Iterable)} once per entry.
  *
  * @param <K> the type of key
  * @param <V> the type of value
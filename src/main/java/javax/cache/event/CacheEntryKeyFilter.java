@@ -0,0 +1,44 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+
+package javax.cache.event;
+
+/**
+ * A function which may be used to check the key and {@link EventType} of an
+ * event before the {@link CacheEntryEvent} is created.
+ * <p/>
+ * Unlike a {@link CacheEntryEventFilter}, a {@link CacheEntryKeyFilter} is
+ * evaluated before the old and new values of an event are obtained, so that
+ * implementations need not copy or deserialize the values of events it
+ * rejects.  Events it accepts are then checked by the
+ * {@link CacheEntryEventFilter}, if any.
+ * <p/>
+ * Events of types the {@link CacheEntryListener} doesn't implement a
+ * sub-interface for are never created, so a {@link CacheEntryKeyFilter} is
+ * only required to discriminate between the types it does.
+ * <p/>
+ * A filter must not create side effects.
+ *
+ * @param <K> the type of key
+ * @see javax.cache.configuration.CacheEntryListenerConfiguration#getCacheEntryKeyFilterFactory()
+ * @since 1.0
+ */
+public interface CacheEntryKeyFilter<K> {
+
+  /**
+   * Evaluates the key and type of an event.
+   *
+   * @param key       the key of the entry for which the event occurred
+   * @param eventType the type of the event
+   * @return true if the evaluation passes, otherwise false.
+   *         The effect of returning false is that the event is discarded
+   *         without its values being obtained
+   * @throws CacheEntryListenerException if there is problem executing the filter
+   */
+  boolean evaluate(K key, EventType eventType) throws CacheEntryListenerException;
+}
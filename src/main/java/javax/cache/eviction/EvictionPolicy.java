@@ -0,0 +1,53 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.eviction;
+
+/**
+ * The policies that may be used to select which entries are evicted from a
+ * size bounded {@link javax.cache.Cache}.
+ * <p/>
+ * Implementations that don't provide a requested policy must use their
+ * {@link #DEFAULT} policy instead.
+ *
+ * @see javax.cache.configuration.Configuration#getEvictionPolicy()
+ * @since 1.0
+ */
+public enum EvictionPolicy {
+
+  /**
+   * The policy chosen by the implementation.
+   */
+  DEFAULT,
+
+  /**
+   * Least Recently Used.  Evicts the entry that has been accessed least
+   * recently.
+   */
+  LRU,
+
+  /**
+   * Segmented Least Recently Used.  New entries are admitted to a probationary
+   * segment and are promoted to a protected segment when accessed again, so
+   * that entries accessed only once, such as by a scan, don't displace
+   * frequently accessed entries.
+   */
+  SEGMENTED_LRU,
+
+  /**
+   * CLOCK (second chance).  Approximates {@link #LRU} using a reference bit per
+   * entry, so that reads don't need to reorder entries.
+   */
+  CLOCK,
+
+  /**
+   * Window TinyLFU.  Admits entries evicted from a small {@link #LRU} window
+   * into a {@link #SEGMENTED_LRU} main region only if their estimated access
+   * frequency is higher than that of the entry they would displace.
+   */
+  W_TINY_LFU
+}
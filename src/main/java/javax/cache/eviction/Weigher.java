@@ -0,0 +1,37 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.eviction;
+
+/**
+ * Calculates the weight of cache entries, for {@link javax.cache.Cache}s that
+ * are bounded by weight instead of by the number of entries.
+ * <p/>
+ * The weight of an entry is calculated when the entry is created or updated
+ * and is not recalculated afterwards.  The unit of the weight, for example
+ * bytes, is defined by the application and need only be consistent with the
+ * {@link javax.cache.configuration.Configuration#getMaximumSize()}.
+ * <p/>
+ * Weighers must be thread-safe and should be fast, as they are called while
+ * cache entries are being mutated.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see javax.cache.configuration.Configuration#getWeigherFactory()
+ * @since 1.0
+ */
+public interface Weigher<K, V> {
+
+  /**
+   * Calculates the weight of a cache entry.
+   *
+   * @param key   the key of the entry
+   * @param value the value of the entry
+   * @return the weight of the entry, which must not be negative
+   */
+  int weigh(K key, V value);
+}
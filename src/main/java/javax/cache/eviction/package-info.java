@@ -0,0 +1,14 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+/**
+ This package contains the eviction policies and weighers used to bound the
+ size of caches.
+
+ @since 1.0
+ */
+package javax.cache.eviction;
@@ -0,0 +1,66 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+
+package javax.cache.expiry;
+
+import javax.cache.Cache.Entry;
+
+/**
+ * The base of the {@link ExpiryPolicy}s provided in this package, which
+ * derives the primitive forms of a {@link NanosecondExpiryPolicy} from its
+ * {@link Duration} forms.
+ * <p/>
+ * As the {@link Duration}s returned are retained by the {@link ExpiryPolicy}
+ * and already know their length in nanoseconds, doing so neither allocates
+ * nor converts between {@link java.util.concurrent.TimeUnit}s.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+abstract class AbstractNanosecondExpiryPolicy<K, V> implements NanosecondExpiryPolicy<K, V> {
+
+  /**
+   * {@inheritDoc}
+   * <p/>
+   * A <code>null</code> {@link Duration} is treated as eternal.
+   */
+  @Override
+  public long getExpiryInNanosForCreatedEntry(Entry<? extends K, ? extends V> entry) {
+    Duration duration = getExpiryForCreatedEntry(entry);
+    return duration == null ? Long.MAX_VALUE : duration.getDurationInNanos();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getExpiryInNanosForAccessedEntry(Entry<? extends K, ? extends V> entry) {
+    return toNanos(getExpiryForAccessedEntry(entry));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getExpiryInNanosForModifiedEntry(Entry<? extends K, ? extends V> entry) {
+    return toNanos(getExpiryForModifiedEntry(entry));
+  }
+
+  /**
+   * Obtains the primitive form of a {@link Duration} returned for an existing
+   * entry.
+   *
+   * @param duration the {@link Duration}, or <code>null</code> if the expiry
+   *                 duration is unchanged
+   * @return the length of the {@link Duration} in nanoseconds, or
+   *         {@link #NO_CHANGE} if it is <code>null</code>
+   */
+  private static long toNanos(Duration duration) {
+    return duration == null ? NO_CHANGE : duration.getDurationInNanos();
+  }
+}
@@ -20,7 +20,7 @@ import java.io.Serializable;
  * @param <K> the type of cache keys
  * @param <V> the type of cache values
  */
-public final class AccessedExpiryPolicy<K, V> implements ExpiryPolicy<K, V>, Serializable {
+public final class AccessedExpiryPolicy<K, V> extends AbstractNanosecondExpiryPolicy<K, V> implements Serializable {
 
 
   /**
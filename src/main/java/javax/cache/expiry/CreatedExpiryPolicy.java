@@ -20,7 +20,7 @@ import java.io.Serializable;
  * @param <K> the type of cache keys
  * @param <V> the type of cache values
  */
-public final class CreatedExpiryPolicy<K, V> implements ExpiryPolicy<K, V>, Serializable {
+public final class CreatedExpiryPolicy<K, V> extends AbstractNanosecondExpiryPolicy<K, V> implements Serializable {
 
   /**
    * The serialVersionUID required for {@link java.io.Serializable}.
@@ -7,6 +7,8 @@
 
 package javax.cache.expiry;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
 
@@ -17,6 +19,20 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * A {@link java.io.Serializable} duration of time.
+ * <p/>
+ * {@link Duration}s are immutable.  The length of a {@link Duration} in
+ * nanoseconds and in milliseconds is calculated once, when it is constructed,
+ * so that {@link #getAdjustedTime(long)}, {@link #getDurationInNanos()},
+ * {@link #equals(Object)} and {@link #hashCode()} don't perform
+ * {@link TimeUnit} conversions.  As such {@link ExpiryPolicy}s should return
+ * the same {@link Duration} instances for each entry, instead of creating new
+ * ones.  {@link #of(TimeUnit, long)} returns the constants declared here for
+ * the lengths they represent, rather than creating new instances.
+ * <p/>
+ * {@link Duration}s have nanosecond precision, and are equal when they are
+ * of the same length, regardless of their {@link TimeUnit}s.
+ * {@link #getAdjustedTime(long)} has millisecond precision, rounding any
+ * fraction of a millisecond up.
  */
 public class Duration implements Serializable {
 
@@ -71,7 +87,14 @@ public class Duration implements Serializable {
   public static final Duration ZERO = new Duration(SECONDS, 0);
 
   /**
-   * The unit of time to specify time in. The minimum time unit is milliseconds.
+   * The constants returned by {@link #of(TimeUnit, long)} in place of new
+   * instances of the same length.
+   */
+  private static final Duration[] CANONICAL_DURATIONS =
+      {ZERO, ONE_MINUTE, FIVE_MINUTES, TEN_MINUTES, TWENTY_MINUTES, THIRTY_MINUTES, ONE_HOUR, ONE_DAY};
+
+  /**
+   * The unit of time to specify time in.
    */
   private final TimeUnit timeUnit;
 
@@ -82,21 +105,38 @@ public class Duration implements Serializable {
    */
   private final long durationAmount;
 
+  /**
+   * The length of the duration in milliseconds, rounded up, or
+   * <code>Long.MAX_VALUE</code> when eternal.  This is derived from the {@link #timeUnit} and the
+   * {@link #durationAmount}, so it is not serialized.
+   */
+  private transient long durationInMillis;
+
+  /**
+   * The length of the duration in nanoseconds, or <code>Long.MAX_VALUE</code>
+   * when eternal or too long to be represented.  This is derived from the
+   * {@link #timeUnit} and the {@link #durationAmount}, so it is not
+   * serialized.
+   */
+  private transient long durationInNanos;
+
   /**
    * Constructs a Duration (that by default is Eternal).
    */
   public Duration() {
     this.timeUnit = null;
     this.durationAmount = 0;
+    this.durationInMillis = Long.MAX_VALUE;
+    this.durationInNanos = Long.MAX_VALUE;
   }
 
   /**
    * Constructs a duration.
    *
-   * @param timeUnit       the unit of time to specify time in. The minimum time unit is milliseconds.
+   * @param timeUnit       the unit of time to specify time in
    * @param durationAmount how long, in the specified units, the cache entries should live. 0 means eternal.
    * @throws NullPointerException     if timeUnit is null
-   * @throws IllegalArgumentException if durationAmount is less than 0 or a TimeUnit less than milliseconds is specified
+   * @throws IllegalArgumentException if durationAmount is less than 0
    */
   public Duration(TimeUnit timeUnit, long durationAmount) {
     if (timeUnit == null) {
@@ -109,19 +149,14 @@ public class Duration implements Serializable {
       }
 
     } else {
-      switch (timeUnit) {
-        case NANOSECONDS:
-        case MICROSECONDS:
-          throw new IllegalArgumentException("Must specify a TimeUnit of milliseconds or higher.");
-        default:
-          this.timeUnit = timeUnit;
-          break;
-      }
+      this.timeUnit = timeUnit;
       if (durationAmount < 0) {
         throw new IllegalArgumentException("Cannot specify a negative durationAmount.");
       }
       this.durationAmount = durationAmount;
     }
+    this.durationInMillis = toMillis(this.timeUnit, this.durationAmount);
+    this.durationInNanos = toNanos(this.timeUnit, this.durationAmount);
   }
 
   /**
@@ -145,6 +180,80 @@ public class Duration implements Serializable {
       timeUnit = TimeUnit.MILLISECONDS;
       durationAmount = Math.max(startTime, endTime) - Math.min(startTime, endTime);
     }
+    durationInMillis = toMillis(timeUnit, durationAmount);
+    durationInNanos = toNanos(timeUnit, durationAmount);
+  }
+
+  /**
+   * Obtains a {@link Duration} of the specified length, being one of the
+   * constants declared by {@link Duration} when there is one of that length,
+   * or otherwise a new {@link Duration}.
+   * <p/>
+   * The {@link TimeUnit} and amount of a constant returned may differ from
+   * those specified, but the {@link Duration} is equal to one constructed
+   * with them.
+   *
+   * @param timeUnit       the unit of time to specify time in
+   * @param durationAmount how long, in the specified units, the cache entries should live
+   * @return a {@link Duration} of the specified length
+   * @throws NullPointerException     if timeUnit is null
+   * @throws IllegalArgumentException if durationAmount is less than 0
+   */
+  public static Duration of(TimeUnit timeUnit, long durationAmount) {
+    if (timeUnit == null && durationAmount == 0) {
+      return ETERNAL;
+    } else if (timeUnit != null && durationAmount >= 0) {
+      long durationInNanos = timeUnit.toNanos(durationAmount);
+      for (Duration duration : CANONICAL_DURATIONS) {
+        if (duration.durationInNanos == durationInNanos) {
+          return duration;
+        }
+      }
+    }
+    return new Duration(timeUnit, durationAmount);
+  }
+
+  /**
+   * Calculates the length of a duration in milliseconds, rounding any
+   * fraction of a millisecond up.
+   *
+   * @param timeUnit       the {@link TimeUnit} of the duration (null when eternal)
+   * @param durationAmount the number of {@link TimeUnit}s
+   * @return the length in milliseconds, or <code>Long.MAX_VALUE</code> when
+   *         eternal
+   */
+  private static long toMillis(TimeUnit timeUnit, long durationAmount) {
+    if (timeUnit == null) {
+      return Long.MAX_VALUE;
+    } else {
+      long millis = timeUnit.toMillis(durationAmount);
+      return timeUnit.toNanos(durationAmount) > TimeUnit.MILLISECONDS.toNanos(millis) ? millis + 1 : millis;
+    }
+  }
+
+  /**
+   * Calculates the length of a duration in nanoseconds.
+   *
+   * @param timeUnit       the {@link TimeUnit} of the duration (null when eternal)
+   * @param durationAmount the number of {@link TimeUnit}s
+   * @return the length in nanoseconds, or <code>Long.MAX_VALUE</code> when
+   *         eternal or too long to be represented
+   */
+  private static long toNanos(TimeUnit timeUnit, long durationAmount) {
+    return timeUnit == null ? Long.MAX_VALUE : timeUnit.toNanos(durationAmount);
+  }
+
+  /**
+   * Restores the derived state of a {@link Duration} when it is deserialized.
+   *
+   * @param in the {@link ObjectInputStream}
+   * @throws IOException            if the {@link Duration} can't be read
+   * @throws ClassNotFoundException if a class can't be resolved
+   */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    durationInMillis = toMillis(timeUnit, durationAmount);
+    durationInNanos = toNanos(timeUnit, durationAmount);
   }
 
   /**
@@ -165,6 +274,19 @@ public class Duration implements Serializable {
     return durationAmount;
   }
 
+  /**
+   * Obtain the length of the Duration in nanoseconds, for use with
+   * {@link System#nanoTime()}.
+   * <p/>
+   * Durations too long to be represented in nanoseconds, including those that
+   * are eternal, are <code>Long.MAX_VALUE</code>.
+   *
+   * @return the length of the Duration in nanoseconds
+   */
+  public long getDurationInNanos() {
+    return durationInNanos;
+  }
+
   /**
    * Determines if a {@link Duration} is eternal (forever).
    *
@@ -185,7 +307,8 @@ public class Duration implements Serializable {
 
   /**
    * Calculates the adjusted time (from the Epoc) given a specified time
-   * (to be adjusted) by the duration.
+   * (to be adjusted) by the duration.  Any fraction of a millisecond in the
+   * duration is rounded up.
    *
    * @param time the time from which to adjust given the duration
    * @return the adjusted time
@@ -194,7 +317,7 @@ public class Duration implements Serializable {
     if (isEternal()) {
       return Long.MAX_VALUE;
     } else {
-      return time + timeUnit.toMillis(durationAmount);
+      return time + durationInMillis;
     }
   }
 
@@ -216,9 +339,8 @@ public class Duration implements Serializable {
           this.durationAmount == duration.durationAmount) {
         return true;
       } else if (this.timeUnit != null && duration.timeUnit != null) {
-        long time1 = timeUnit.toMillis(durationAmount);
-        long time2 = duration.timeUnit.toMillis(duration.durationAmount);
-        return time1 == time2;
+        //durations too long for nanoseconds are distinguished by their milliseconds
+        return durationInNanos == duration.durationInNanos && durationInMillis == duration.durationInMillis;
       } else {
         return false;
       }
@@ -230,6 +352,6 @@ public class Duration implements Serializable {
    */
   @Override
   public int hashCode() {
-    return timeUnit == null ? -1 : (int)timeUnit.toMillis(durationAmount);
+    return timeUnit == null ? -1 : (int) (durationInNanos ^ (durationInNanos >>> 32));
   }
 }
@@ -16,7 +16,7 @@ import static javax.cache.expiry.Duration.ETERNAL;
  * @param <K> the type of cache keys
  * @param <V> the type of cache values
  */
-public final class EternalExpiryPolicy<K, V> implements ExpiryPolicy<K, V>, Serializable {
+public final class EternalExpiryPolicy<K, V> extends AbstractNanosecondExpiryPolicy<K, V> implements Serializable {
 
   /**
    * The serialVersionUID required for {@link java.io.Serializable}.
@@ -15,6 +15,22 @@ import javax.cache.Cache.Entry;
  * <p/>
  * Each of the functions return a new {@link Duration} that of which specifies the
  * amount of time that must pass before a cache entry is considered expired.
+ * <p/>
+ * Expired entries must not be returned by a cache.  Implementations must also
+ * remove expired entries without requiring them to be accessed, so that entries
+ * that are never accessed again don't continue to consume resources.  Each
+ * time a {@link Duration} is returned, implementations should (re)schedule the
+ * expiry of the entry in constant time, for example using a hierarchical
+ * timing wheel, rather than periodically scanning all entries of the cache.
+ * Entries scheduled to expire at around the same time may be expired together,
+ * in which case {@link javax.cache.event.CacheEntryExpiredListener}s are
+ * notified of them in a single batch.
+ * <p/>
+ * An {@link ExpiryPolicy} may additionally implement
+ * {@link NanosecondExpiryPolicy}, so that implementations can determine expiry
+ * without allocating or converting between
+ * {@link java.util.concurrent.TimeUnit}s.  The {@link ExpiryPolicy}s provided
+ * in this package all do so.
  *
  * @param <K> the type of keys
  * @param <V> the type of values
@@ -0,0 +1,82 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+
+package javax.cache.expiry;
+
+import javax.cache.Cache.Entry;
+
+/**
+ * An {@link ExpiryPolicy} that also provides each of its functions in a
+ * primitive form, returning the duration in nanoseconds.
+ * <p/>
+ * Implementations detect an {@link ExpiryPolicy} that is a
+ * {@link NanosecondExpiryPolicy} using <code>instanceof</code>, and call the
+ * primitive forms on the hot path of cache operations instead, so that
+ * determining expiry neither allocates nor converts between
+ * {@link java.util.concurrent.TimeUnit}s.  Other {@link ExpiryPolicy}s are
+ * used through their {@link Duration} forms.
+ * <p/>
+ * The primitive forms must be consistent with the {@link Duration} forms:
+ * they return {@link Duration#getDurationInNanos()} of the {@link Duration}
+ * that would be returned, or {@link #NO_CHANGE} in place of
+ * <code>null</code>.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see Duration#getDurationInNanos()
+ * @since 1.0
+ */
+public interface NanosecondExpiryPolicy<K, V> extends ExpiryPolicy<K, V> {
+
+  /**
+   * The value returned by the primitive functions to indicate that the
+   * previously understood expiry duration of an entry is unchanged.
+   */
+  long NO_CHANGE = -1L;
+
+  /**
+   * Gets the duration in nanoseconds before the newly Cache.Entry is
+   * considered expired.
+   * <p/>
+   * As a newly created entry has no previous expiry duration,
+   * {@link #NO_CHANGE} is never returned.
+   *
+   * @param entry the cache entry that was created
+   * @return the new duration until the entry expires in nanoseconds,
+   *         <code>0</code> if it is already expired or
+   *         <code>Long.MAX_VALUE</code> if it never expires
+   * @see #getExpiryForCreatedEntry(Entry)
+   */
+  long getExpiryInNanosForCreatedEntry(Entry<? extends K, ? extends V> entry);
+
+  /**
+   * Gets the duration in nanoseconds before the accessed Cache.Entry is
+   * considered expired.
+   *
+   * @param entry the cache entry that was accessed
+   * @return the new duration until the entry expires in nanoseconds,
+   *         <code>0</code> if it is expired, <code>Long.MAX_VALUE</code> if it
+   *         never expires or {@link #NO_CHANGE} if the expiry duration is
+   *         unchanged
+   * @see #getExpiryForAccessedEntry(Entry)
+   */
+  long getExpiryInNanosForAccessedEntry(Entry<? extends K, ? extends V> entry);
+
+  /**
+   * Gets the duration in nanoseconds before the modified Cache.Entry is
+   * considered expired.
+   *
+   * @param entry the cache entry that was modified
+   * @return the new duration until the entry expires in nanoseconds,
+   *         <code>0</code> if it is expired, <code>Long.MAX_VALUE</code> if it
+   *         never expires or {@link #NO_CHANGE} if the expiry duration is
+   *         unchanged
+   * @see #getExpiryForModifiedEntry(Entry)
+   */
+  long getExpiryInNanosForModifiedEntry(Entry<? extends K, ? extends V> entry);
+}
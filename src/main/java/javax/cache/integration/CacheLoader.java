@@ -15,6 +15,19 @@ import java.util.Map;
  * {@link javax.cache.Cache#loadAll(java.util.Set, boolean,
  * CompletionListener)} method.
  * <p/>
+ * When a read-through cache misses on a key for which a load is already in
+ * progress, the caching service does not call the {@link CacheLoader} again.
+ * Instead the missing thread waits for, and returns, the result of the load in
+ * progress.  Consequently concurrent read-through misses on a key result in a
+ * single call of the {@link CacheLoader} for that key.  Should the load in
+ * progress fail, the waiting threads fail with the same exception.
+ * <p/>
+ * This coalescing only applies to read-through misses.  Loads made by
+ * {@link Cache#loadAll(java.util.Set, boolean, CompletionListener)} and
+ * refresh-ahead reloads are not required to join, or be joined by, a load in
+ * progress, so a {@link CacheLoader} may be called to load the same key
+ * concurrently in those cases.
+ * <p/>
  * @param <K> the type of keys handled by this loader
  * @param <V> the type of values generated by this loader
  * @author Greg Luck
@@ -43,6 +56,11 @@ public interface CacheLoader<K, V> {
    * by the caching service when the requested object is not in the cache. If
    * an object can't be loaded, it is not returned in the resulting map.
    * <p/>
+   * This method is called with all of the keys missing from a read-through
+   * {@link Cache#getAll(java.util.Set)}, or with batches of at most
+   * {@link javax.cache.configuration.Configuration#getLoaderBatchSize()} of
+   * them, so that a {@link CacheLoader} may fetch them in a single request to
+   * the underlying resource.
    *
    * @param keys keys identifying the values to be loaded
    * @return A map of key, values to be stored in the cache.
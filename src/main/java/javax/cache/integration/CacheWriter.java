@@ -28,11 +28,26 @@ import java.util.Collection;
  * partial success, the collection of entries must contain only those entries which
  * failed.
  * <p/>
- * The behaviour of the caching implementation in the case of partial success is
- * undefined.
+ * When called synchronously by a write-through
+ * {@link Cache#putAll(java.util.Map)} or {@link Cache#removeAll(java.util.Set)},
+ * batch methods are called with at most
+ * {@link javax.cache.configuration.Configuration#getWriterBatchSize()} entries
+ * or keys.  In the case of partial success the caching implementation mutates
+ * the cache for the entries which succeeded, continues with any remaining
+ * batches and, once all batches have been attempted, the cache operation
+ * throws a {@link PartialWriteException} holding the keys of all the entries
+ * which failed.  It does not retry failed entries individually.
  * <p/>
  * The semantics of Transactional Consistency are implementation specific.
  * <p/>
+ * When a {@link javax.cache.configuration.WriteBehindConfiguration} is
+ * configured, the writer is called asynchronously with coalesced batches of
+ * entries and keys, and only the batch methods are used.  Batch sizes and the
+ * retrying of failed entries are then governed by the
+ * {@link javax.cache.configuration.WriteBehindConfiguration} rather than
+ * {@link javax.cache.configuration.Configuration#getWriterBatchSize()}, and
+ * no {@link PartialWriteException} is thrown.
+ * <p/>
  * The entry passed into {@link #write(javax.cache.Cache.Entry)} is independent
  * of the cache mapping for that key, meaning that if the value changes in the
  * cache or is removed it does not change the said entry.
@@ -17,10 +17,12 @@
 
 package javax.cache.integration;
 
+import javax.cache.CacheFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 
 /**
  * A CompletionListenerFuture is a CompletionListener implementation that
@@ -39,6 +41,15 @@ import java.util.concurrent.TimeoutException;
  * future.get();
  * </code></pre>
  * <p/>
+ * Rather than blocking a thread in {@link #get()}, applications may instead
+ * chain further work using {@link #addCompletionListener(CompletionListener)}.
+ * Completion, waiting and the notification of {@link CompletionListener}s are
+ * non-blocking apart from waiting threads parking, so that many concurrent
+ * operations may each use their own CompletionListenerFuture without
+ * contending on monitors.  Each registered {@link CompletionListener} is
+ * notified exactly once, and any exception it throws is reported to the
+ * {@link Thread.UncaughtExceptionHandler} of the notifying thread.
+ * <p/>
  * A CompletionListenerFuture may only be used once.  Attempts to use an instance
  * multiple times, as part of multiple asynchronous calls will result in an
  * {@link java.lang.IllegalStateException} being raised.
@@ -46,16 +57,37 @@ import java.util.concurrent.TimeoutException;
  * @author Brian Oliver
  * @author Greg Luck
  */
-public class CompletionListenerFuture implements CompletionListener, Future<Void> {
+public class CompletionListenerFuture implements CompletionListener, CacheFuture<Void> {
+
+  /**
+   * The marker that replaces the registered {@link CompletionListener}s once
+   * they have been notified.
+   */
+  private static final ListenerNode NOTIFIED = new ListenerNode(null, null);
+
+  /**
+   * The synchronizer on which threads wait for completion.
+   */
+  private final Sync sync;
+
+  /**
+   * The {@link CompletionListener}s awaiting notification, most recently
+   * registered first, or {@link #NOTIFIED}.
+   */
+  private final AtomicReference<ListenerNode> listeners;
 
-  private boolean isCompleted;
+  /**
+   * The exception with which the operation failed, if any.  Written before
+   * and read after the state of the {@link #sync}, which makes it visible.
+   */
   private Exception exception;
 
   /**
    * Constructs a CompletionListenerFuture.
    */
   public CompletionListenerFuture() {
-    this.isCompleted = false;
+    this.sync = new Sync();
+    this.listeners = new AtomicReference<ListenerNode>(null);
     this.exception = null;
   }
 
@@ -65,14 +97,7 @@ public class CompletionListenerFuture implements CompletionListener, Future<Void
    */
   @Override
   public void onCompletion() throws IllegalStateException {
-    synchronized (this) {
-      if (isCompleted) {
-        throw new IllegalStateException("Attempted to use a CompletionListenerFuture instance more than once");
-      } else {
-        isCompleted = true;
-        notify();
-      }
-    }
+    complete(null);
   }
 
   /**
@@ -83,15 +108,41 @@ public class CompletionListenerFuture implements CompletionListener, Future<Void
    */
   @Override
   public void onException(Exception e) throws IllegalStateException {
-    synchronized (this) {
-      if (isCompleted) {
-        throw new IllegalStateException("Attempted to use a CompletionListenerFuture instance more than once");
-      } else {
-        isCompleted = true;
-        exception = e;
-        notify();
-      }
+    complete(e);
+  }
+
+  /**
+   * Registers a {@link CompletionListener} to be notified when the operation
+   * completes, either successfully or exceptionally.
+   * <p/>
+   * Should the operation have already completed, the
+   * {@link CompletionListener} is notified immediately using the calling
+   * thread.  Otherwise it is notified using the thread that completes the
+   * operation.
+   * <p/>
+   * A {@link RuntimeException} thrown by the {@link CompletionListener} is
+   * passed to the {@link Thread.UncaughtExceptionHandler} of the notifying
+   * thread and is otherwise ignored, so that it neither prevents the
+   * notification of other {@link CompletionListener}s nor propagates to the
+   * thread completing the operation.
+   *
+   * @param listener the {@link CompletionListener} to notify
+   * @throws NullPointerException if the listener is null
+   */
+  @Override
+  public void addCompletionListener(CompletionListener listener) {
+    if (listener == null) {
+      throw new NullPointerException("CompletionListener can't be null");
     }
+
+    ListenerNode head;
+    do {
+      head = listeners.get();
+      if (head == NOTIFIED) {
+        notify(listener);
+        return;
+      }
+    } while (!listeners.compareAndSet(head, new ListenerNode(listener, head)));
   }
 
   @Override
@@ -106,9 +157,7 @@ public class CompletionListenerFuture implements CompletionListener, Future<Void
 
   @Override
   public boolean isDone() {
-    synchronized (this) {
-      return isCompleted;
-    }
+    return sync.isCompleted();
   }
 
   /**
@@ -125,17 +174,8 @@ public class CompletionListenerFuture implements CompletionListener, Future<Void
    */
   @Override
   public Void get() throws InterruptedException, ExecutionException {
-    synchronized (this) {
-      if (!isCompleted) {
-        wait();
-      }
-
-      if (exception == null) {
-        return null;
-      } else {
-        throw new ExecutionException(exception);
-      }
-    }
+    sync.acquireSharedInterruptibly(0);
+    return result();
   }
 
   /**
@@ -155,20 +195,153 @@ public class CompletionListenerFuture implements CompletionListener, Future<Void
    */
   @Override
   public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-    synchronized (this) {
-      if (!isCompleted) {
-        unit.timedWait(this, timeout);
-      }
+    if (!sync.tryAcquireSharedNanos(0, unit.toNanos(timeout))) {
+      throw new TimeoutException();
+    }
+    return result();
+  }
+
+  /**
+   * Completes this CompletionListenerFuture, releasing waiting threads and
+   * notifying the registered {@link CompletionListener}s.
+   *
+   * @param e the Exception that occurred or null if the operation succeeded
+   * @throws IllegalStateException if the instance is used more than once
+   */
+  private void complete(Exception e) throws IllegalStateException {
+    if (!sync.tryComplete()) {
+      throw new IllegalStateException("Attempted to use a CompletionListenerFuture instance more than once");
+    }
+    exception = e;
+    sync.releaseShared(0);
+
+    for (ListenerNode node = listeners.getAndSet(NOTIFIED); node != null; node = node.next) {
+      notify(node.listener);
+    }
+  }
 
-      if (isCompleted) {
-        if (exception == null) {
-          return null;
-        } else {
-          throw new ExecutionException(exception);
-        }
+  /**
+   * Notifies a {@link CompletionListener} of the outcome of the operation.
+   * <p/>
+   * Exceptions thrown by the {@link CompletionListener} are reported to the
+   * {@link Thread.UncaughtExceptionHandler} of the notifying thread, so that
+   * they neither prevent other {@link CompletionListener}s from being notified
+   * nor propagate to the thread completing the operation.
+   *
+   * @param listener the {@link CompletionListener} to notify
+   */
+  private void notify(CompletionListener listener) {
+    try {
+      if (exception == null) {
+        listener.onCompletion();
       } else {
-        throw new TimeoutException();
+        listener.onException(exception);
       }
+    } catch (RuntimeException e) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+  }
+
+  /**
+   * Obtains the result of the completed operation.
+   *
+   * @return null, as operations have no result
+   * @throws ExecutionException wrapping the exception with which the operation
+   *         failed
+   */
+  private Void result() throws ExecutionException {
+    if (exception == null) {
+      return null;
+    } else {
+      throw new ExecutionException(exception);
+    }
+  }
+
+  /**
+   * The state of a CompletionListenerFuture, through which it transitions
+   * from pending to completing, when a thread has claimed the right to
+   * complete it, to completed.  Threads waiting for completion acquire it in
+   * shared mode.
+   */
+  private static final class Sync extends AbstractQueuedSynchronizer {
+
+    /**
+     * The serialVersionUID required for {@link java.io.Serializable}.
+     */
+    private static final long serialVersionUID = 201311051345L;
+
+    /**
+     * The state before the operation has completed.
+     */
+    private static final int PENDING = 0;
+
+    /**
+     * The state while the outcome of the operation is being recorded.
+     */
+    private static final int COMPLETING = 1;
+
+    /**
+     * The state once the outcome of the operation has been recorded.
+     */
+    private static final int COMPLETED = 2;
+
+    /**
+     * Claims the right to complete the operation.
+     *
+     * @return true if the calling thread may complete the operation, false
+     *         if it has already been completed
+     */
+    boolean tryComplete() {
+      return compareAndSetState(PENDING, COMPLETING);
+    }
+
+    /**
+     * Determines if the operation has completed.
+     *
+     * @return true if the operation has completed
+     */
+    boolean isCompleted() {
+      return getState() == COMPLETED;
+    }
+
+    @Override
+    protected int tryAcquireShared(int ignored) {
+      return isCompleted() ? 1 : -1;
+    }
+
+    @Override
+    protected boolean tryReleaseShared(int ignored) {
+      setState(COMPLETED);
+      return true;
+    }
+  }
+
+  /**
+   * An immutable node in the stack of {@link CompletionListener}s awaiting
+   * notification.
+   */
+  private static final class ListenerNode {
+
+    /**
+     * The {@link CompletionListener} to notify.
+     */
+    private final CompletionListener listener;
+
+    /**
+     * The node of the previously registered {@link CompletionListener}.
+     */
+    private final ListenerNode next;
+
+    /**
+     * Constructs a ListenerNode.
+     *
+     * @param listener the {@link CompletionListener} to notify
+     * @param next     the node of the previously registered listener
+     */
+    private ListenerNode(CompletionListener listener, ListenerNode next) {
+      this.listener = listener;
+      this.next = next;
     }
   }
 }
@@ -0,0 +1,40 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.integration;
+
+/**
+ * A {@link CompletionListener} that is additionally notified of the progress
+ * of an operation that processes many keys in parts, such as
+ * {@link javax.cache.Cache#loadAll(java.util.Set, boolean, CompletionListener)}
+ * when the keys are loaded in batches of
+ * {@link javax.cache.configuration.Configuration#getLoaderBatchSize()} keys.
+ * <p/>
+ * Should the {@link CompletionListener} provided to such an operation
+ * implement this interface, the Cache provider calls
+ * {@link #onProgress(int, int)} after each part has been processed.  Calls
+ * may be made concurrently when parts are processed in parallel.
+ * <p/>
+ * Should a part fail, no further parts are started, and
+ * {@link #onException(Exception)} is called only once the parts already in
+ * progress have finished and been reported.  Hence
+ * {@link #onProgress(int, int)} is never called after {@link #onCompletion()}
+ * or {@link #onException(Exception)}.
+ *
+ * @see CompletionListener
+ * @since 1.0
+ */
+public interface CompletionProgressListener extends CompletionListener {
+
+  /**
+   * Notifies the application that part of the operation has completed.
+   *
+   * @param processedKeys the number of keys processed so far
+   * @param totalKeys     the total number of keys to process
+   */
+  void onProgress(int processedKeys, int totalKeys);
+}
@@ -0,0 +1,76 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+
+package javax.cache.integration;
+
+import javax.cache.CacheException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * An exception thrown by a {@link javax.cache.Cache}, not a
+ * {@link CacheWriter}, to indicate that a synchronous batched write-through,
+ * performed by {@link javax.cache.Cache#putAll(java.util.Map)} or
+ * {@link javax.cache.Cache#removeAll(java.util.Set)}, failed for some of its
+ * entries.
+ * <p/>
+ * The keys of the entries that could not be written or deleted are available
+ * from {@link #getFailedKeys()}.  The {@link javax.cache.Cache} has been
+ * mutated for all other entries.
+ *
+ * @since 1.0
+ * @see CacheWriter
+ */
+public class PartialWriteException extends CacheException {
+
+  private static final long serialVersionUID = 20131105150230L;
+
+  /**
+   * The keys of the entries that could not be written or deleted.
+   */
+  private final ArrayList<Object> failedKeys;
+
+  /**
+   * Constructs a new PartialWriteException with a message string.
+   *
+   * @param message    the detail message. The detail message is saved for
+   *                   later retrieval by the {@link #getMessage()} method.
+   * @param failedKeys the keys of the entries that failed
+   */
+  public PartialWriteException(String message, Collection<?> failedKeys) {
+    super(message);
+    this.failedKeys = new ArrayList<Object>(failedKeys);
+  }
+
+  /**
+   * Constructs a PartialWriteException with a message string, and
+   * a base exception
+   *
+   * @param message    the detail message. The detail message is saved for
+   *                   later retrieval by the {@link #getMessage()} method.
+   * @param cause      the cause (which is saved for later retrieval by the
+   *                   {@link #getCause()} method).  (A <tt>null</tt> value is
+   *                   permitted, and indicates that the cause is nonexistent or
+   *                   unknown.)
+   * @param failedKeys the keys of the entries that failed
+   */
+  public PartialWriteException(String message, Throwable cause, Collection<?> failedKeys) {
+    super(message, cause);
+    this.failedKeys = new ArrayList<Object>(failedKeys);
+  }
+
+  /**
+   * Obtains the keys of the entries that could not be written or deleted.
+   *
+   * @return an unmodifiable {@link Collection} of the keys
+   */
+  public Collection<Object> getFailedKeys() {
+    return Collections.unmodifiableList(failedKeys);
+  }
+}
@@ -133,6 +133,79 @@ public interface CacheStatisticsMXBean {
    */
   long getCacheEvictions();
 
+  /**
+   * The total number of get requests that, rather than calling the
+   * {@link javax.cache.integration.CacheLoader}, waited for a load of the same
+   * key that was already in progress in a read-through cache.
+   * <p/>
+   * These requests are also counted as misses.
+   *
+   * @return the number of get requests that waited for a load in progress
+   */
+  long getCacheLoadWaits();
+
+  /**
+   * The number of events currently queued for delivery to asynchronous
+   * {@link javax.cache.event.CacheEntryListener}s.
+   *
+   * @return the number of queued events
+   */
+  long getCacheEventsQueued();
+
+  /**
+   * The total number of cache operations that blocked because the event queue
+   * of an asynchronous {@link javax.cache.event.CacheEntryListener} was full.
+   * <p/>
+   * A growing number indicates that listeners are applying backpressure to
+   * the mutation of the cache.
+   *
+   * @return the number of operations that waited to queue an event
+   * @see javax.cache.configuration.CacheEntryListenerConfiguration#getDispatchQueueSize()
+   */
+  long getCacheEventDispatchWaits();
+
+  /**
+   * The number of keys requested by read-through
+   * {@link javax.cache.Cache#get(Object)},
+   * {@link javax.cache.Cache#getAll(java.util.Set)} and
+   * {@link javax.cache.Cache#invoke} operations that found a negative entry,
+   * recording that the {@link javax.cache.integration.CacheLoader} could not
+   * load the key, and so were treated as not existing without calling the
+   * {@link javax.cache.integration.CacheLoader}.
+   * <p/>
+   * These keys are also counted as misses.
+   *
+   * @return the number of keys served by negative entries
+   * @see javax.cache.configuration.Configuration#getNegativeExpiryPolicyFactory()
+   */
+  long getCacheNegativeHits();
+
+  /**
+   * The number of keys requested by read-through
+   * {@link javax.cache.Cache#get(Object)},
+   * {@link javax.cache.Cache#getAll(java.util.Set)} and
+   * {@link javax.cache.Cache#invoke} operations that the
+   * {@link javax.cache.integration.CacheLoader} could not load, and for which
+   * a negative entry was therefore created.
+   * <p/>
+   * These keys are also counted as misses.
+   *
+   * @return the number of negative entries created
+   * @see javax.cache.configuration.Configuration#getNegativeExpiryPolicyFactory()
+   */
+  long getCacheNegativeMisses();
+
+  /**
+   * The number of bytes of memory outside of the Java heap currently used to
+   * store the entries of the cache.
+   * <p/>
+   * This is zero for caches that store their entries on the Java heap.
+   *
+   * @return the number of bytes of off-heap memory used
+   * @see javax.cache.configuration.Configuration#getOffHeapSize()
+   */
+  long getCacheOffHeapBytes();
+
   /**
    * The mean time to execute gets.
    * <p/>
@@ -0,0 +1,93 @@
+/**
+ *  Copyright (c) 2011-2013 Terracotta, Inc.
+ *  Copyright (c) 2011-2013 Oracle and/or its affiliates.
+ *
+ *  All rights reserved. Use is subject to license terms.
+ */
+
+package javax.cache.spi;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts keys or values of a store-by-value {@link javax.cache.Cache} to and
+ * from their stored, binary representation.
+ * <p/>
+ * Implementations write directly into, and read directly from,
+ * {@link ByteBuffer}s supplied by the caching provider.  This permits a
+ * provider to serialize into pooled or direct (off-heap) buffers without
+ * intermediate byte arrays or streams, and to copy a value by serializing and
+ * deserializing it when a store-by-value {@link javax.cache.Cache} stores or
+ * returns it.
+ * <p/>
+ * Instances of the types returned by
+ * {@link javax.cache.configuration.Configuration#getImmutableTypes()} are
+ * never mutated and so are not copied by a store-by-value
+ * {@link javax.cache.Cache}.  Providers only use a {@link Serializer} for such
+ * types when they must be stored in binary form, for example off-heap.
+ * <p/>
+ * {@link Serializer}s are configured per {@link javax.cache.Cache} using a
+ * {@link javax.cache.configuration.Factory}.  When none is configured
+ * providers typically use Java serialization.
+ * <p/>
+ * Implementations must be thread-safe.
+ *
+ * @param <T> the type of object serialized
+ * @see javax.cache.configuration.Configuration#getKeySerializerFactory()
+ * @see javax.cache.configuration.Configuration#getValueSerializerFactory()
+ * @since 1.0
+ */
+public interface Serializer<T> {
+
+  /**
+   * Determines the maximum number of bytes
+   * {@link #serialize(Object, ByteBuffer)} will write for an object, so that callers can allocate or reserve a
+   * buffer of the required size before serializing it.
+   * <p/>
+   * The value returned may be an upper bound rather than the exact size, and
+   * for some formats determining it may cost as much as serializing the
+   * object.  A buffer with at least this many bytes remaining must never
+   * cause {@link #serialize(Object, ByteBuffer)} to overflow.
+   *
+   * @param object the object to serialize
+   * @return the maximum number of bytes in the binary representation of the
+   *         object
+   * @throws NullPointerException      if the object is null
+   * @throws javax.cache.CacheException if the object can't be serialized
+   */
+  int getSerializedSize(T object);
+
+  /**
+   * Writes the binary representation of an object into a buffer, starting at
+   * the buffer's current position.
+   * <p/>
+   * On return the position of the buffer is immediately after the last byte
+   * written.  If the buffer has too few bytes remaining for the binary
+   * representation a {@link java.nio.BufferOverflowException} is thrown, in
+   * which case the position of the buffer is unchanged and the content of the
+   * buffer after its position is undefined.  Callers that don't first obtain
+   * the size may therefore retry with a larger buffer.
+   *
+   * @param object the object to serialize
+   * @param buffer the buffer into which to write the object
+   * @throws NullPointerException if the object or buffer is null
+   * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+   * @throws javax.cache.CacheException if the object can't be serialized
+   */
+  void serialize(T object, ByteBuffer buffer);
+
+  /**
+   * Reads an object from its binary representation in a buffer, starting at
+   * the buffer's current position.
+   * <p/>
+   * On return the position of the buffer is immediately after the last byte
+   * read.  Implementations must not retain a reference to the buffer, as it
+   * may be reused by the caching provider.
+   *
+   * @param buffer the buffer from which to read the object
+   * @return a new instance of the object
+   * @throws NullPointerException if the buffer is null
+   * @throws javax.cache.CacheException if the object can't be deserialized
+   */
+  T deserialize(ByteBuffer buffer);
+}